@@ -25,8 +25,8 @@ import seedu.address.model.SellerAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.BuyerAddressBookStorage;
-import seedu.address.storage.JsonBuyerAddressBookStorage;
-import seedu.address.storage.JsonSellerAddressBookStorage;
+import seedu.address.storage.JournaledBuyerAddressBookStorage;
+import seedu.address.storage.JournaledSellerAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.SellerAddressBookStorage;
 import seedu.address.storage.Storage;
@@ -60,10 +60,12 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SellerAddressBookStorage sellerAddressBookStorage =
-                new JsonSellerAddressBookStorage(userPrefs.getSellerAddressBookFilePath());
-        BuyerAddressBookStorage buyerAddressBookStorage =
-                new JsonBuyerAddressBookStorage(userPrefs.getBuyerAddressBookFilePath());
+        SellerAddressBookStorage sellerAddressBookStorage = new JournaledSellerAddressBookStorage(
+                userPrefs.getSellerAddressBookFilePath(), userPrefs.getJournalCompactionThreshold(),
+                userPrefs.getSaveDurability());
+        BuyerAddressBookStorage buyerAddressBookStorage = new JournaledBuyerAddressBookStorage(
+                userPrefs.getBuyerAddressBookFilePath(), userPrefs.getJournalCompactionThreshold(),
+                userPrefs.getSaveDurability());
         storage = new StorageManager(userPrefsStorage, sellerAddressBookStorage,
                 buyerAddressBookStorage);
 
@@ -206,5 +208,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
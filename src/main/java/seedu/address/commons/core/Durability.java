@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * How hard a save tries to make sure that the data written survives a crash.
+ */
+public enum Durability {
+    /**
+     * Files are written to a temporary file that then replaces the data file in one step, so a crash leaves either
+     * the old or the new data file. The latest save may still be lost if the machine loses power.
+     */
+    ATOMIC,
+
+    /**
+     * Like {@link #ATOMIC}, but also waits for the data to be forced onto the disk before a save finishes.
+     */
+    SYNCED
+}
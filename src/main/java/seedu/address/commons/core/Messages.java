@@ -7,6 +7,8 @@ public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
+    public static final String MESSAGE_DUPLICATE_FIELDS =
+            "Multiple values specified for the following single-valued field(s): %1$s";
 
     public static final String MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX = "The client index provided is invalid";
     public static final String MESSAGE_INVALID_BUYER_DISPLAYED_INDEX = "Ensure index is positive integer & less than "
@@ -20,5 +22,7 @@ public class Messages {
 
     public static final String MESSAGE_NO_PROPERTY_ADDED = "You can only match a buyer only after a property has "
             + "been added!\nUse: add-ptb to add a property first.";
+    public static final String MESSAGE_NO_PROPERTY_TO_SELL_ADDED = "You can only match a seller only after a property "
+            + "has been added!\nUse: add-pts to add a property first.";
 
 }
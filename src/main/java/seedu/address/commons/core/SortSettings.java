@@ -0,0 +1,70 @@
+package seedu.address.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains how a client list is sorted for display.
+ * Guarantees: immutable.
+ */
+public class SortSettings implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String comparedItem;
+    private final String order;
+
+    /**
+     * Constructs a {@code SortSettings} that leaves the list in the order it is stored in.
+     */
+    public SortSettings() {
+        comparedItem = null; // null represents no sorting
+        order = null;
+    }
+
+    /**
+     * Constructs a {@code SortSettings} that sorts by {@code comparedItem}, name or time, in {@code order} order,
+     * asc or desc.
+     */
+    public SortSettings(String comparedItem, String order) {
+        this.comparedItem = comparedItem;
+        this.order = order;
+    }
+
+    public String getComparedItem() {
+        return comparedItem;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+    public boolean isSorted() {
+        return comparedItem != null && order != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SortSettings)) { //this handles null as well.
+            return false;
+        }
+
+        SortSettings o = (SortSettings) other;
+
+        return Objects.equals(comparedItem, o.comparedItem)
+                && Objects.equals(order, o.order);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(comparedItem, order);
+    }
+
+    @Override
+    public String toString() {
+        return isSorted() ? "By : " + comparedItem + " " + order : "Unsorted";
+    }
+}
@@ -3,11 +3,12 @@ package seedu.address.commons.util;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 
+import seedu.address.commons.core.SortSettings;
 import seedu.address.model.client.Client;
 
 public class ComparatorUtil {
     public static final Comparator<Client> NAME_COMPARATOR_ASC =
-            Comparator.comparing(p -> p.getName().fullName.toUpperCase());
+            Comparator.comparing(Client::getNameKey);
     public static final Comparator<Client> NAME_COMPARATOR_DESC = NAME_COMPARATOR_ASC.reversed();
     public static final Comparator<Client> TIME_COMPARATOR_ASC = new Comparator<>() {
         @Override
@@ -50,4 +51,23 @@ public class ComparatorUtil {
         }
     };
 
+    /**
+     * Returns the comparator that sorts by {@code comparedItem}, name or time, in {@code order} order, asc or desc.
+     */
+    public static Comparator<Client> getComparator(String comparedItem, String order) {
+        if (comparedItem.equals("name")) {
+            return order.equals("asc") ? NAME_COMPARATOR_ASC : NAME_COMPARATOR_DESC;
+        } else {
+            return order.equals("asc") ? TIME_COMPARATOR_ASC : TIME_COMAPRATOR_DESC;
+        }
+    }
+
+    /**
+     * Returns the comparator for {@code sortSettings}, or null if they leave the list unsorted.
+     */
+    public static Comparator<Client> getComparator(SortSettings sortSettings) {
+        return sortSettings.isSorted()
+                ? getComparator(sortSettings.getComparedItem(), sortSettings.getOrder())
+                : null;
+    }
 }
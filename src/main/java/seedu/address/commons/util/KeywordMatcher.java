@@ -0,0 +1,113 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds whether any of a fixed list of keywords appears in a piece of text, ignoring case.
+ * The keywords are compiled once into an Aho-Corasick automaton, so checking a text reads each of its characters once
+ * however many keywords there are. Texts must already be lower-cased, such as the search keys kept on clients.
+ */
+public class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    /**
+     * The next state for each character read in each state, for the characters that extend some keyword.
+     */
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+
+    /**
+     * The state for the longest proper suffix of each state's text that is also the start of some keyword.
+     */
+    private final List<Integer> failures = new ArrayList<>();
+
+    /**
+     * Whether the text of each state ends with a whole keyword.
+     */
+    private final List<Boolean> accepting = new ArrayList<>();
+
+    /**
+     * Compiles a matcher for {@code keywords}, each of which must be a single word.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        newState();
+        for (String keyword : keywords) {
+            insert(StringUtil.toSearchKey(keyword));
+        }
+        linkFailures();
+    }
+
+    /**
+     * Returns true if any keyword appears in {@code lowerCaseText}.
+     * Always returns false if there are no keywords.
+     */
+    public boolean isFoundIn(String lowerCaseText) {
+        requireNonNull(lowerCaseText);
+        int state = ROOT;
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            state = next(state, lowerCaseText.charAt(i));
+            if (accepting.get(state)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int newState() {
+        transitions.add(new HashMap<>());
+        failures.add(ROOT);
+        accepting.add(false);
+        return transitions.size() - 1;
+    }
+
+    private void insert(String keyword) {
+        int state = ROOT;
+        for (int i = 0; i < keyword.length(); i++) {
+            Integer child = transitions.get(state).get(keyword.charAt(i));
+            if (child == null) {
+                child = newState();
+                transitions.get(state).put(keyword.charAt(i), child);
+            }
+            state = child;
+        }
+        accepting.set(state, true);
+    }
+
+    /**
+     * Sets the failure link of every state below the first level, whose links stay at the root, visiting states in
+     * order of depth so that the links of shorter texts are known first.
+     * A state also accepts if its failure state does, since its text then ends with a keyword too.
+     */
+    private void linkFailures() {
+        Deque<Integer> toVisit = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!toVisit.isEmpty()) {
+            int state = toVisit.poll();
+            for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                int child = transition.getValue();
+                int failure = next(failures.get(state), transition.getKey());
+                failures.set(child, failure);
+                if (accepting.get(failure)) {
+                    accepting.set(child, true);
+                }
+                toVisit.add(child);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        Integer child = transitions.get(state).get(c);
+        while (child == null && state != ROOT) {
+            state = failures.get(state);
+            child = transitions.get(state).get(c);
+        }
+        return child == null ? ROOT : child;
+    }
+}
@@ -36,6 +36,22 @@ public class StringUtil {
         return preppedSentence.contains(preppedWord.toLowerCase());
     }
 
+    /**
+     * Returns {@code word} trimmed and lower-cased, ready to be looked for in text that is already lower-cased.
+     * Searching lower-cased text for the result with {@code contains} is the same as
+     * {@link #containsWordIgnoreCase(String, String)} without lower-casing either string again.
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String toSearchKey(String word) {
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+
+        return preppedWord.toLowerCase();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -52,6 +53,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of buyers */
     ObservableList<Buyer> getFilteredBuyerList();
 
+    /**
+     * Returns the number of sellers matching {@code buyer}, which is kept up to date as the address books change.
+     *
+     * @see seedu.address.model.Model#getMatchCount(Buyer)
+     */
+    ReadOnlyIntegerProperty getMatchCount(Buyer buyer);
+
     /**
      * Returns the user prefs' buyers address book file path.
      */
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -26,12 +27,22 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /**
+     * The versions of the address books as of their last save that was written, or {@code UNSAVED} before that.
+     * They are set by the storage once a save has been written, which may be on another thread, so that an address
+     * book whose save fails is saved again by the next command.
+     */
+    private volatile long savedSellerVersion = UNSAVED;
+    private volatile long savedBuyerVersion = UNSAVED;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -50,8 +61,7 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.saveSellerAddressBook(model.getSellerAddressBook());
-            storage.saveBuyerAddressBook(model.getBuyerAddressBook());
+            saveChangedAddressBooks();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -59,6 +69,37 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves each address book that changed since it was last saved, so that commands which only read the address
+     * books, such as finds and lists, do not rewrite them.
+     * Both address books are handed to the storage before any earlier failure it reports is thrown.
+     */
+    private void saveChangedAddressBooks() throws IOException {
+        IOException failure = null;
+
+        long sellerVersion = model.getSellerAddressBookVersion();
+        if (sellerVersion != savedSellerVersion) {
+            try {
+                storage.saveSellerAddressBook(model.getSellerAddressBook(), () -> savedSellerVersion = sellerVersion);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        long buyerVersion = model.getBuyerAddressBookVersion();
+        if (buyerVersion != savedBuyerVersion) {
+            try {
+                storage.saveBuyerAddressBook(model.getBuyerAddressBook(), () -> savedBuyerVersion = buyerVersion);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -94,6 +135,11 @@ public class LogicManager implements Logic {
         return model.getFilteredBuyerList();
     }
 
+    @Override
+    public ReadOnlyIntegerProperty getMatchCount(Buyer buyer) {
+        return model.getMatchCount(buyer);
+    }
+
     @Override
     public Path getBuyerAddressBookFilePath() {
         return model.getBuyerAddressBookFilePath();
@@ -27,6 +27,7 @@ public class AddBuyerCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New buyer added: %1$s";
     public static final String MESSAGE_DUPLICATE_CLIENT = "This buyer already exists";
+    public static final String MESSAGE_SHARED_PHONE = "Note: another buyer already has this phone number.";
 
     private final Buyer toAdd;
 
@@ -46,8 +47,12 @@ public class AddBuyerCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CLIENT);
         }
 
+        // clients may share a home or office number, so a shared number is only pointed out
+        boolean isSharedPhone = model.hasBuyerPhone(toAdd.getPhone());
+
         model.addBuyer(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        String result = String.format(MESSAGE_SUCCESS, toAdd);
+        return new CommandResult(isSharedPhone ? result + "\n" + MESSAGE_SHARED_PHONE : result);
     }
 
     @Override
@@ -30,6 +30,7 @@ public class AddSellerCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New seller added: %1$s";
     public static final String MESSAGE_DUPLICATE_CLIENT = "This seller already exists in the address book";
+    public static final String MESSAGE_SHARED_PHONE = "Note: another seller already has this phone number.";
 
     private final Seller toAdd;
 
@@ -49,8 +50,12 @@ public class AddSellerCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CLIENT);
         }
 
+        // clients may share a home or office number, so a shared number is only pointed out
+        boolean isSharedPhone = model.hasSellerPhone(toAdd.getPhone());
+
         model.addSeller(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        String result = String.format(MESSAGE_SUCCESS, toAdd);
+        return new CommandResult(isSharedPhone ? result + "\n" + MESSAGE_SHARED_PHONE : result);
     }
 
     @Override
@@ -24,6 +24,7 @@ import seedu.address.model.buyer.Buyer;
 import seedu.address.model.client.Appointment;
 import seedu.address.model.client.Name;
 import seedu.address.model.client.Phone;
+import seedu.address.model.property.House;
 import seedu.address.model.property.HouseType;
 import seedu.address.model.property.Location;
 import seedu.address.model.property.NullPropertyToBuy;
@@ -118,11 +119,10 @@ public class EditBuyerCommand extends Command {
             buyerToEdit.getPropertyToBuy().getHouse().getLocation());
         PriceRange updatedPriceRange = editBuyerDescriptor.getPriceRange().orElse(
             buyerToEdit.getPropertyToBuy().getPriceRange());
-        PropertyToBuy updatedPropertyToBuy = buyerToEdit.getPropertyToBuy().updatePropertyToBuy(
-            updatedHouseType,
-            updatedLocation,
-            updatedPriceRange
-        );
+        // Build a new PropertyToBuy rather than changing the existing one, which is still in the address book
+        PropertyToBuy updatedPropertyToBuy = buyerToEdit.getPropertyToBuy() instanceof NullPropertyToBuy
+            ? buyerToEdit.getPropertyToBuy()
+            : new PropertyToBuy(new House(updatedHouseType, updatedLocation), updatedPriceRange);
 
         Name updatedName = editBuyerDescriptor.getName().orElse(buyerToEdit.getName());
         Phone updatedPhone = editBuyerDescriptor.getPhone().orElse(buyerToEdit.getPhone());
@@ -25,6 +25,7 @@ import seedu.address.model.client.Appointment;
 import seedu.address.model.client.Name;
 import seedu.address.model.client.Phone;
 import seedu.address.model.property.Address;
+import seedu.address.model.property.House;
 import seedu.address.model.property.HouseType;
 import seedu.address.model.property.Location;
 import seedu.address.model.property.NullPropertyToSell;
@@ -122,12 +123,10 @@ public class EditSellerCommand extends Command {
             sellerToEdit.getPropertyToSell().getHouse().getLocation());
         PriceRange updatedPriceRange = editSellerDescriptor.getPriceRange().orElse(
             sellerToEdit.getPropertyToSell().getPriceRange());
-        PropertyToSell updatedPropertyToSell = sellerToEdit.getPropertyToSell().updatePropertyToSell(
-            updatedHouseType,
-            updatedLocation,
-            updatedPriceRange,
-            updatedAddress
-        );
+        // Build a new PropertyToSell rather than changing the existing one, which is still in the address book
+        PropertyToSell updatedPropertyToSell = sellerToEdit.getPropertyToSell() instanceof NullPropertyToSell
+            ? sellerToEdit.getPropertyToSell()
+            : new PropertyToSell(new House(updatedHouseType, updatedLocation), updatedPriceRange, updatedAddress);
 
         Name updatedName = editSellerDescriptor.getName().orElse(sellerToEdit.getName());
         Phone updatedPhone = editSellerDescriptor.getPhone().orElse(sellerToEdit.getPhone());
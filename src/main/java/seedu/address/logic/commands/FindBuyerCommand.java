@@ -7,11 +7,6 @@ import java.util.function.Predicate;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.buyer.Buyer;
-import seedu.address.model.buyer.BuyerHouseTypeContainsKeywordsPredicate;
-import seedu.address.model.buyer.BuyerLocationContainsKeywordsPredicate;
-import seedu.address.model.buyer.BuyerNameContainsKeywordsPredicate;
-import seedu.address.model.buyer.BuyerPhoneContainsKeywordsPredicate;
-import seedu.address.model.buyer.BuyerTagsContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -23,28 +18,16 @@ public class FindBuyerCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all buyers whose specified field matches "
             + "the given keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: DELIMITER/KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " n/alice bob charlie";
+            + "Fields given together must all match, and groups of fields separated by | are alternatives.\n"
+            + "Parameters: DELIMITER/KEYWORD [MORE_KEYWORDS]... [DELIMITER/KEYWORD [MORE_KEYWORDS]...]... "
+            + "[| DELIMITER/KEYWORD [MORE_KEYWORDS]...]...\n"
+            + "Delimiters: n/NAME p/PHONE t/TAG h/HOUSE_TYPE l/LOCATION pr/LOWER,UPPER\n"
+            + "Example: " + COMMAND_WORD + " n/alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " l/serangoon h/condo | t/urgent";
 
     private final Predicate<Buyer> predicateBuyer;
 
-    public FindBuyerCommand(BuyerNameContainsKeywordsPredicate predicate) {
-        this.predicateBuyer = predicate;
-    }
-
-    public FindBuyerCommand(BuyerPhoneContainsKeywordsPredicate predicate) {
-        this.predicateBuyer = predicate;
-    }
-
-    public FindBuyerCommand(BuyerTagsContainsKeywordsPredicate predicate) {
-        this.predicateBuyer = predicate;
-    }
-
-    public FindBuyerCommand(BuyerHouseTypeContainsKeywordsPredicate predicate) {
-        this.predicateBuyer = predicate;
-    }
-
-    public FindBuyerCommand(BuyerLocationContainsKeywordsPredicate predicate) {
+    public FindBuyerCommand(Predicate<Buyer> predicate) {
         this.predicateBuyer = predicate;
     }
 
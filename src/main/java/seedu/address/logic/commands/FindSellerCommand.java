@@ -7,11 +7,6 @@ import java.util.function.Predicate;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.seller.Seller;
-import seedu.address.model.seller.SellerHouseTypeContainsKeywordsPredicate;
-import seedu.address.model.seller.SellerLocationContainsKeywordsPredicate;
-import seedu.address.model.seller.SellerNameContainsKeywordsPredicate;
-import seedu.address.model.seller.SellerPhoneContainsKeywordsPredicate;
-import seedu.address.model.seller.SellerTagsContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -23,28 +18,16 @@ public class FindSellerCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all sellers whose specified field matches "
             + "the given keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: DELIMITER/KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " n/alice bob charlie";
+            + "Fields given together must all match, and groups of fields separated by | are alternatives.\n"
+            + "Parameters: DELIMITER/KEYWORD [MORE_KEYWORDS]... [DELIMITER/KEYWORD [MORE_KEYWORDS]...]... "
+            + "[| DELIMITER/KEYWORD [MORE_KEYWORDS]...]...\n"
+            + "Delimiters: n/NAME p/PHONE t/TAG h/HOUSE_TYPE l/LOCATION pr/LOWER,UPPER\n"
+            + "Example: " + COMMAND_WORD + " n/alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " l/serangoon h/condo | t/urgent";
 
     private final Predicate<Seller> predicateSeller;
 
-    public FindSellerCommand(SellerNameContainsKeywordsPredicate predicate) {
-        this.predicateSeller = predicate;
-    }
-
-    public FindSellerCommand(SellerPhoneContainsKeywordsPredicate predicate) {
-        this.predicateSeller = predicate;
-    }
-
-    public FindSellerCommand(SellerTagsContainsKeywordsPredicate predicate) {
-        this.predicateSeller = predicate;
-    }
-
-    public FindSellerCommand(SellerHouseTypeContainsKeywordsPredicate predicate) {
-        this.predicateSeller = predicate;
-    }
-
-    public FindSellerCommand(SellerLocationContainsKeywordsPredicate predicate) {
+    public FindSellerCommand(Predicate<Seller> predicate) {
         this.predicateSeller = predicate;
     }
 
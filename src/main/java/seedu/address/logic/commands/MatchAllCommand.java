@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.match.MatchPairList;
+
+/**
+ * Finds every buyer and seller that match each other, and shows one page of the matches or writes them all to a file.
+ */
+public class MatchAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "match-all";
+
+    public static final int PAGE_SIZE = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds every buyer and seller whose properties "
+        + "match and displays them " + PAGE_SIZE + " matches per page.\n"
+        + "If " + PREFIX_FILE + "FILE is given, every match is written to FILE as comma-separated values instead.\n"
+        + "Parameters: [PAGE] or " + PREFIX_FILE + "FILE\n"
+        + "Example: " + COMMAND_WORD + " 2\n"
+        + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "matches.csv";
+
+    public static final String MESSAGE_NO_MATCHES = "0 matches found!";
+    public static final String MESSAGE_MATCHES_FOUND = "%1$d matches found! Showing page %2$d of %3$d:";
+    public static final String MESSAGE_INVALID_PAGE = "There are only %1$d page(s) of matches.";
+    public static final String MESSAGE_MATCH = "%1$d. %2$s <-> %3$s";
+    public static final String MESSAGE_MATCHES_WRITTEN = "%1$d matches written to %2$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write matches to %1$s: %2$s";
+
+    private final Index page;
+    private final Optional<Path> file;
+
+    /**
+     * Creates a MatchAllCommand that shows the given {@code page} of matches.
+     */
+    public MatchAllCommand(Index page) {
+        requireNonNull(page);
+        this.page = page;
+        this.file = Optional.empty();
+    }
+
+    /**
+     * Creates a MatchAllCommand that writes every match to {@code file}, replacing its contents.
+     */
+    public MatchAllCommand(Path file) {
+        requireNonNull(file);
+        this.page = Index.fromOneBased(1);
+        this.file = Optional.of(file);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        MatchPairList matches = model.getAllMatches();
+
+        if (file.isPresent()) {
+            return writeMatches(matches, file.get());
+        }
+
+        if (matches.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MATCHES);
+        }
+
+        int pageCount = matches.getPageCount(PAGE_SIZE);
+        if (page.getOneBased() > pageCount) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, pageCount));
+        }
+
+        StringBuilder result = new StringBuilder(
+            String.format(MESSAGE_MATCHES_FOUND, matches.size(), page.getOneBased(), pageCount));
+        int end = Math.min(matches.size(), page.getOneBased() * PAGE_SIZE);
+        for (int i = page.getZeroBased() * PAGE_SIZE; i < end; i++) {
+            result.append('\n').append(String.format(MESSAGE_MATCH, i + 1,
+                matches.getBuyer(i).getName(), matches.getSeller(i).getName()));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Streams {@code matches} to {@code file} one line at a time.
+     */
+    private CommandResult writeMatches(MatchPairList matches, Path file) throws CommandException {
+        try {
+            FileUtil.createParentDirsOfFile(file);
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                matches.writeTo(writer);
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, file, ioe), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_MATCHES_WRITTEN, matches.size(), file));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof MatchAllCommand // instanceof handles nulls
+            && page.equals(((MatchAllCommand) other).page) // state check
+            && file.equals(((MatchAllCommand) other).file));
+    }
+}
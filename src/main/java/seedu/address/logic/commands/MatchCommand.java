@@ -1,6 +1,10 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
@@ -8,8 +12,8 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.match.TopKMatcher.ScoredMatch;
 import seedu.address.model.property.NullPropertyToBuy;
-import seedu.address.model.seller.AllFieldsMatchBuyerPredicate;
 
 
 /**
@@ -21,13 +25,31 @@ public class MatchCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all sellers whose specified fields matches "
         + "the given buyer index and displays them as a list with index numbers.\n"
-        + "Parameters: BUYER_INDEX...\n"
-        + "Example: " + COMMAND_WORD + " 2";
+        + "If " + PREFIX_TOP + "K is given, only the K sellers that best suit the buyer are displayed, best first.\n"
+        + "Parameters: BUYER_INDEX... [" + PREFIX_TOP + "K]\n"
+        + "Example: " + COMMAND_WORD + " 2 " + PREFIX_TOP + "5";
+
+    public static final String MESSAGE_TOP_MATCHES =
+        "%1$d best sellers found, ranked best first below (the seller list keeps its current sort order):";
+    public static final String MESSAGE_TOP_MATCH = "%1$d. %2$s (score %3$.2f)";
 
     private final Index index;
+    private final Optional<Integer> topCount;
 
+    /**
+     * Creates a MatchCommand that shows every seller matching the buyer at {@code index}.
+     */
     public MatchCommand(Index index) {
         this.index = index;
+        this.topCount = Optional.empty();
+    }
+
+    /**
+     * Creates a MatchCommand that shows only the {@code topCount} sellers that best suit the buyer at {@code index}.
+     */
+    public MatchCommand(Index index, int topCount) {
+        this.index = index;
+        this.topCount = Optional.of(topCount);
     }
 
     @Override
@@ -45,16 +67,37 @@ public class MatchCommand extends Command {
             throw new CommandException(Messages.MESSAGE_NO_PROPERTY_ADDED);
         }
 
-        model.updateFilteredSellerList(new AllFieldsMatchBuyerPredicate(buyer));
+        if (topCount.isPresent()) {
+            return showTopMatches(model, buyer, topCount.get());
+        }
+
+        model.updateFilteredSellerListToMatch(buyer);
 
         return new CommandResult(
             String.format(Messages.MESSAGE_SELLERS_LISTED_OVERVIEW, model.getFilteredSellerList().size()));
     }
 
+    /**
+     * Shows the {@code k} sellers that best suit {@code buyer} in the seller list, and lists them best first in the
+     * result. The seller list itself keeps the order chosen by the last sort.
+     */
+    private CommandResult showTopMatches(Model model, Buyer buyer, int k) {
+        List<ScoredMatch> topMatches = model.getTopMatches(buyer, k);
+        model.updateFilteredSellerListToTopMatches(topMatches);
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_TOP_MATCHES, topMatches.size()));
+        for (int i = 0; i < topMatches.size(); i++) {
+            result.append('\n').append(String.format(MESSAGE_TOP_MATCH, i + 1,
+                topMatches.get(i).getSeller().getName(), topMatches.get(i).getScore()));
+        }
+        return new CommandResult(result.toString());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof MatchCommand // instanceof handles nulls
-            && index.equals(((MatchCommand) other).index)); // state check
+            && index.equals(((MatchCommand) other).index) // state check
+            && topCount.equals(((MatchCommand) other).topCount));
     }
 }
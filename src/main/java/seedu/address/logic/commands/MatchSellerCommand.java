@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.buyer.AllFieldsMatchSellerPredicate;
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.seller.Seller;
+
+
+/**
+ * Matches and finds all buyers in UniqueBuyerList whose PropertyToBuy is matched by the Seller's PropertyToSell.
+ */
+public class MatchSellerCommand extends Command {
+
+    public static final String COMMAND_WORD = "match-s";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all buyers who want the property of "
+        + "the given seller index and displays them as a list with index numbers.\n"
+        + "Parameters: SELLER_INDEX...\n"
+        + "Example: " + COMMAND_WORD + " 2";
+
+    private final Index index;
+
+    public MatchSellerCommand(Index index) {
+        this.index = index;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ObservableList<Seller> sellerList = model.getFilteredSellerList();
+
+        if (index.getZeroBased() >= sellerList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_SELLER_DISPLAYED_INDEX);
+        }
+
+        Seller seller = sellerList.get(index.getZeroBased());
+
+        if (seller.getPropertyToSell() instanceof NullPropertyToSell) {
+            throw new CommandException(Messages.MESSAGE_NO_PROPERTY_TO_SELL_ADDED);
+        }
+
+        model.updateFilteredBuyerList(new AllFieldsMatchSellerPredicate(seller));
+
+        return new CommandResult(
+            String.format(Messages.MESSAGE_BUYERS_LISTED_OVERVIEW, model.getFilteredBuyerList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof MatchSellerCommand // instanceof handles nulls
+            && index.equals(((MatchSellerCommand) other).index)); // state check
+    }
+}
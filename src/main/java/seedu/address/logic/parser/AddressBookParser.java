@@ -26,10 +26,12 @@ import seedu.address.logic.commands.FindSellerCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListBuyerCommand;
 import seedu.address.logic.commands.ListSellerCommand;
+import seedu.address.logic.commands.MatchAllCommand;
 import seedu.address.logic.commands.MatchCommand;
 import seedu.address.logic.commands.MatchHouseTypeCommand;
 import seedu.address.logic.commands.MatchLocationCommand;
 import seedu.address.logic.commands.MatchPriceRangeCommand;
+import seedu.address.logic.commands.MatchSellerCommand;
 import seedu.address.logic.commands.SortBuyerCommand;
 import seedu.address.logic.commands.SortSellerCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -136,6 +138,12 @@ public class AddressBookParser {
         case MatchPriceRangeCommand.COMMAND_WORD:
             return new MatchPriceRangeCommandParser().parse(arguments);
 
+        case MatchSellerCommand.COMMAND_WORD:
+            return new MatchSellerCommandParser().parse(arguments);
+
+        case MatchAllCommand.COMMAND_WORD:
+            return new MatchAllCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
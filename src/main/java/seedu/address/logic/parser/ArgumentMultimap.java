@@ -1,10 +1,16 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.core.Messages.MESSAGE_DUPLICATE_FIELDS;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Stores mapping of prefixes to their respective arguments.
@@ -51,6 +57,21 @@ public class ArgumentMultimap {
         return new ArrayList<>(argMultimap.get(prefix));
     }
 
+    /**
+     * Checks that none of the given {@code prefixes}, which take a single value, is given more than once.
+     *
+     * @throws ParseException if a prefix has more than one value.
+     */
+    public void verifyNoDuplicatePrefixesFor(Prefix... prefixes) throws ParseException {
+        String duplicatedPrefixes = Stream.of(prefixes).distinct()
+                .filter(prefix -> getAllValues(prefix).size() > 1)
+                .map(Prefix::toString)
+                .collect(Collectors.joining(" "));
+        if (!duplicatedPrefixes.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_DUPLICATE_FIELDS, duplicatedPrefixes));
+        }
+    }
+
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
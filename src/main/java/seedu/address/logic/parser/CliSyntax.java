@@ -16,4 +16,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_ORDER = new Prefix("o/");
     public static final Prefix PREFIX_COMPARE = new Prefix("by/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
 }
@@ -5,88 +5,107 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_HOUSE_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE_RANGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindBuyerCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.buyer.Buyer;
 import seedu.address.model.buyer.BuyerHouseTypeContainsKeywordsPredicate;
 import seedu.address.model.buyer.BuyerLocationContainsKeywordsPredicate;
 import seedu.address.model.buyer.BuyerNameContainsKeywordsPredicate;
 import seedu.address.model.buyer.BuyerPhoneContainsKeywordsPredicate;
+import seedu.address.model.buyer.BuyerPriceRangeOverlapsPredicate;
 import seedu.address.model.buyer.BuyerTagsContainsKeywordsPredicate;
+import seedu.address.model.index.AllOfPredicate;
+import seedu.address.model.index.AnyOfPredicate;
+import seedu.address.model.index.IndexedPredicate;
 
+/**
+ * Parses input arguments and creates a new FindBuyerCommand object.
+ * The fields given together must all match, and groups of fields separated by {@code |} are alternatives, so
+ * {@code l/serangoon h/condo | t/urgent} finds the condominiums in Serangoon and every buyer tagged urgent.
+ */
 public class FindBuyerCommandParser implements Parser<FindBuyerCommand> {
 
-    private static final String PREFIX_DELIMITER = "/";
+    private static final String GROUP_DELIMITER = "|";
 
     /**
-     * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * Parses the given {@code String} of arguments in the context of the FindBuyerCommand
+     * and returns a FindBuyerCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindBuyerCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        if (args.trim().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBuyerCommand.MESSAGE_USAGE));
         }
 
-        String[] keywords = trimmedArgs.split("\\s+");
+        List<IndexedPredicate<Buyer>> groups = new ArrayList<>();
+        for (String group : args.split("\\" + GROUP_DELIMITER, -1)) {
+            groups.add(parseGroup(group));
+        }
+        return new FindBuyerCommand(groups.size() == 1 ? groups.get(0) : new AnyOfPredicate<>(groups));
+    }
 
-        String firstArg = keywords[0];
-        if (firstArg.length() < 3) {
+    /**
+     * Parses one group of fields that must all match into a single predicate.
+     */
+    private IndexedPredicate<Buyer> parseGroup(String group) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + group,
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_TAG, PREFIX_HOUSE_TYPE, PREFIX_LOCATION, PREFIX_PRICE_RANGE);
+        if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBuyerCommand.MESSAGE_USAGE));
         }
-        int delimiterIndex = firstArg.indexOf(PREFIX_DELIMITER);
-        if (delimiterIndex != 1) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBuyerCommand.MESSAGE_USAGE));
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PRICE_RANGE);
+
+        List<IndexedPredicate<Buyer>> predicates = new ArrayList<>();
+        if (!argMultimap.getAllValues(PREFIX_NAME).isEmpty()) {
+            predicates.add(new BuyerNameContainsKeywordsPredicate(getKeywords(argMultimap, PREFIX_NAME)));
+        }
+        if (!argMultimap.getAllValues(PREFIX_PHONE).isEmpty()) {
+            predicates.add(new BuyerPhoneContainsKeywordsPredicate(getKeywords(argMultimap, PREFIX_PHONE)));
+        }
+        if (!argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
+            predicates.add(new BuyerTagsContainsKeywordsPredicate(getKeywords(argMultimap, PREFIX_TAG)));
         }
-        String prefix = firstArg.substring(0, 2);
-        if (checkPrefix(prefix, PREFIX_NAME, PREFIX_PHONE, PREFIX_TAG, PREFIX_HOUSE_TYPE, PREFIX_LOCATION)) {
+        if (!argMultimap.getAllValues(PREFIX_HOUSE_TYPE).isEmpty()) {
+            predicates.add(new BuyerHouseTypeContainsKeywordsPredicate(getKeywords(argMultimap, PREFIX_HOUSE_TYPE)));
+        }
+        if (!argMultimap.getAllValues(PREFIX_LOCATION).isEmpty()) {
+            predicates.add(new BuyerLocationContainsKeywordsPredicate(getKeywords(argMultimap, PREFIX_LOCATION)));
+        }
+        if (argMultimap.getValue(PREFIX_PRICE_RANGE).isPresent()) {
+            predicates.add(new BuyerPriceRangeOverlapsPredicate(
+                    ParserUtil.parsePriceRange(argMultimap.getValue(PREFIX_PRICE_RANGE).get())));
+        }
+
+        if (predicates.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBuyerCommand.MESSAGE_USAGE));
         }
-        keywords[0] = firstArg.substring(2);
-        return findWithPrefix(prefix, keywords);
-    }
-
-    public boolean checkPrefix(String p, Prefix... knownPrefixes) {
-        return Arrays.stream(knownPrefixes).noneMatch(s -> s.toString().equals(p));
+        return predicates.size() == 1 ? predicates.get(0) : new AllOfPredicate<>(predicates);
     }
 
     /**
-     * Executes the respective FindCommands with different signatures, depending on the prefix arguments.
-     *
-     * @param prefix The prefix that the user inputs, to find a Buyer.
-     * @param keywords Keywords that come after the prefix.
-     * @return The desired FindCommand, with the correct signature.
-     * @throws ParseException ParseException thrown if no valid prefix provided.
+     * Returns the keywords given after every occurrence of {@code prefix}.
+     * @throws ParseException if an occurrence of {@code prefix} has no keywords after it.
      */
-    public FindBuyerCommand findWithPrefix(String prefix, String[] keywords) throws ParseException {
-        switch(prefix) {
-        case "n/":
-            return new FindBuyerCommand(new BuyerNameContainsKeywordsPredicate(Arrays.asList(keywords)));
-            // Fallthrough
-        case "p/":
-            System.out.println("print");
-            return new FindBuyerCommand(new BuyerPhoneContainsKeywordsPredicate(Arrays.asList(keywords)));
-            // Fallthrough
-        case "t/":
-            return new FindBuyerCommand(new BuyerTagsContainsKeywordsPredicate(Arrays.asList(keywords)));
-            // Fallthrough
-        case "h/":
-            return new FindBuyerCommand(new BuyerHouseTypeContainsKeywordsPredicate(Arrays.asList(keywords)));
-            // Fallthrough
-        case "l/":
-            return new FindBuyerCommand(new BuyerLocationContainsKeywordsPredicate(Arrays.asList(keywords)));
-            // Fallthrough
-        default:
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBuyerCommand.MESSAGE_USAGE));
+    private List<String> getKeywords(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        for (String value : argMultimap.getAllValues(prefix)) {
+            String trimmedValue = value.trim();
+            if (trimmedValue.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBuyerCommand.MESSAGE_USAGE));
+            }
+            keywords.addAll(Arrays.asList(trimmedValue.split("\\s+")));
         }
+        return keywords;
     }
 }
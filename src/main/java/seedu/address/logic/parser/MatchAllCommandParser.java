@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.MatchAllCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MatchAllCommand object
+ */
+public class MatchAllCommandParser implements Parser<MatchAllCommand> {
+    /**
+     * Parses {@code userInput} into a command and returns it.
+     * The first page is shown if no page is given. A page cannot be given together with a file.
+     *
+     * @param userInput full user input string
+     * @throws ParseException if {@code userInput} does not conform the expected format
+     */
+    @Override
+    public MatchAllCommand parse(String userInput) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_FILE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+        Optional<String> file = argMultimap.getValue(PREFIX_FILE);
+        if (file.isPresent()) {
+            String trimmedFile = file.get().trim();
+            if (!argMultimap.getPreamble().isEmpty() || trimmedFile.isEmpty() || !FileUtil.isValidPath(trimmedFile)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchAllCommand.MESSAGE_USAGE));
+            }
+            return new MatchAllCommand(Paths.get(trimmedFile));
+        }
+
+        if (userInput.trim().isEmpty()) {
+            return new MatchAllCommand(Index.fromOneBased(1));
+        }
+
+        try {
+            Index page = ParserUtil.parseIndex(userInput);
+            return new MatchAllCommand(page);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchAllCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
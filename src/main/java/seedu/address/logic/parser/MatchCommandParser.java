@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.MatchCommand;
@@ -13,14 +14,21 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MatchCommandParser implements Parser<MatchCommand> {
     /**
      * Parses {@code userInput} into a command and returns it.
+     * The K of an optional top/K must be a positive integer.
      *
      * @param userInput full user input string
      * @throws ParseException if {@code userInput} does not conform the expected format
      */
     @Override
     public MatchCommand parse(String userInput) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIX_TOP);
         try {
-            Index index = ParserUtil.parseIndex(userInput);
+            Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+                // a count has the same constraints as a one-based index
+                int topCount = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_TOP).get()).getOneBased();
+                return new MatchCommand(index, topCount);
+            }
             return new MatchCommand(index);
         } catch (ParseException pe) {
             throw new ParseException(
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MatchSellerCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+
+/**
+ * Parses input arguments and creates a new MatchSellerCommand object
+ */
+public class MatchSellerCommandParser implements Parser<MatchSellerCommand> {
+    /**
+     * Parses {@code userInput} into a command and returns it.
+     *
+     * @param userInput full user input string
+     * @throws ParseException if {@code userInput} does not conform the expected format
+     */
+    @Override
+    public MatchSellerCommand parse(String userInput) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(userInput);
+            return new MatchSellerCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchSellerCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -2,17 +2,28 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.buyer.Buyer;
 import seedu.address.model.buyer.UniqueBuyerList;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.index.ClientIndexes;
 
 
 public class BuyerAddressBook implements ReadOnlyBuyerAddressBook {
 
     private final UniqueBuyerList buyers;
 
+    /**
+     * Counts the changes made to the buyer list, so that callers can tell whether it changed since they last looked.
+     */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -24,7 +35,12 @@ public class BuyerAddressBook implements ReadOnlyBuyerAddressBook {
         buyers = new UniqueBuyerList();
     }
 
-    public BuyerAddressBook() {}
+    /**
+     * Creates an empty BuyerAddressBook.
+     */
+    public BuyerAddressBook() {
+        buyers.asUnmodifiableObservableList().addListener((ListChangeListener<Buyer>) change -> version++);
+    }
 
     /**
      * Creates an BuyerAddressBook using the buyers in the {@code toBeCopied}
@@ -37,6 +53,9 @@ public class BuyerAddressBook implements ReadOnlyBuyerAddressBook {
     /**
      * Replaces the contents of the buyer list with {@code buyers}.
      * {@code sellers} must not contain duplicate buyers.
+     * Prefer this over repeated {@link #addBuyer(Buyer)} calls when loading many buyers at once.
+     *
+     * @throws DuplicateClientException listing every duplicated buyer if {@code buyers} is not unique.
      */
     public void setBuyers(List<Buyer> buyers) {
         this.buyers.setBuyers(buyers);
@@ -61,6 +80,17 @@ public class BuyerAddressBook implements ReadOnlyBuyerAddressBook {
         return buyers.contains(buyer);
     }
 
+    /**
+     * Checks if a buyer in the buyer list has the phone number {@code phone}.
+     *
+     * @param phone The phone number.
+     * @return Whether a buyer with the phone number is already in list.
+     */
+    public boolean hasPhone(Phone phone) {
+        requireNonNull(phone);
+        return getBuyerIndexes().getPhoneIndex().contains(phone.value);
+    }
+
     /**
      * Adds a new buyer to the buyers list.
      *
@@ -80,10 +110,6 @@ public class BuyerAddressBook implements ReadOnlyBuyerAddressBook {
         buyers.setBuyer(target, editedBuyer);
     }
 
-    public void sortBuyers(String comparedItem, String order) {
-        buyers.sortBuyers(comparedItem, order);
-    }
-
     /**
      * Removes {@code key} from this {@code BuyerAddressBook}.
      * {@code key} must exist in the address book.
@@ -98,11 +124,33 @@ public class BuyerAddressBook implements ReadOnlyBuyerAddressBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns the number of changes made to the buyer list so far.
+     * Any change to the list, including a reordering, increases it.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Buyer> getBuyerList() {
         return buyers.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the positions in the buyer list of {@code toFind}, compared by identity, as a bitmap.
+     */
+    public BitSet getBuyerPositions(Collection<? extends Buyer> toFind) {
+        return buyers.getPositions(toFind);
+    }
+
+    /**
+     * Returns the secondary indexes over the buyers in this address book.
+     */
+    public ClientIndexes<Buyer> getBuyerIndexes() {
+        return buyers.getIndexes();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
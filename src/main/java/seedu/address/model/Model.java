@@ -1,11 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.client.Phone;
+import seedu.address.model.match.MatchPairList;
+import seedu.address.model.match.TopKMatcher.ScoredMatch;
 //import seedu.address.model.client.Client;
 import seedu.address.model.seller.Seller;
 
@@ -63,6 +68,10 @@ public interface Model {
      */
     Path getSellerAddressBookFilePath();
 
+    /**
+     * Sorts the displayed seller list by {@code comparator}, name or time, in {@code order} order, asc or desc.
+     * The order the sellers are stored in is left unchanged, and the sort is kept in the user prefs.
+     */
     void sortFilteredSellerList(String comparator, String order);
 
     /**
@@ -78,6 +87,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlySellerAddressBook getSellerAddressBook();
 
+    /**
+     * Returns a number that changes whenever the seller address book changes, so that it is only saved when needed.
+     */
+    long getSellerAddressBookVersion();
+
     //======================Address Book methods for buyer=========================//
     /**
      * Returns the user prefs' seller address book file path.
@@ -97,8 +111,35 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyBuyerAddressBook getBuyerAddressBook();
 
+    /**
+     * Returns a number that changes whenever the buyer address book changes, so that it is only saved when needed.
+     */
+    long getBuyerAddressBookVersion();
+
+    /**
+     * Sorts the displayed buyer list by {@code comparedItem}, name or time, in {@code order} order, asc or desc.
+     * The order the buyers are stored in is left unchanged, and the sort is kept in the user prefs.
+     */
     void sortFilteredBuyerList(String comparedItem, String order);
 
+    /**
+     * Returns every match between a buyer and a seller in the address books, ordered by buyer and then by seller as
+     * they appear in the address books.
+     */
+    MatchPairList getAllMatches();
+
+    /**
+     * Returns the number of sellers matching {@code buyer} by all fields, which is kept up to date as the address
+     * books change. The count is zero if {@code buyer} is not in the buyer address book.
+     */
+    ReadOnlyIntegerProperty getMatchCount(Buyer buyer);
+
+    /**
+     * Returns the {@code k} sellers whose price range overlaps {@code buyer}'s that best suit the buyer, best first.
+     * @throws IllegalArgumentException if {@code k} is not positive.
+     */
+    List<ScoredMatch> getTopMatches(Buyer buyer, int k);
+
     // /**
     //  * Returns true if a person with the same identity as {@code person} exists in the address book.
     //  */
@@ -144,6 +185,14 @@ public interface Model {
      */
     boolean hasBuyer(Buyer buyer);
 
+    /**
+     * Checks if a buyer in AgentSee already has the phone number {@code phone}.
+     *
+     * @param phone The phone number to be checked.
+     * @return Whether a buyer with the phone number exists in AgentSee.
+     */
+    boolean hasBuyerPhone(Phone phone);
+
     /**
      * Adds a new buyer to AgentSee.
      *
@@ -184,6 +233,14 @@ public interface Model {
      */
     boolean hasSeller(Seller seller);
 
+    /**
+     * Checks if a seller in AgentSee already has the phone number {@code phone}.
+     *
+     * @param phone The phone number to be checked.
+     * @return Whether a seller with the phone number exists in AgentSee.
+     */
+    boolean hasSellerPhone(Phone phone);
+
     /**
      * Adds a new buyer to AgentSee.
      *
@@ -214,4 +271,16 @@ public interface Model {
 
     void updateFilteredSellerList(Predicate<Seller> predicate);
 
+    /**
+     * Updates the filter of the filtered seller list to show the sellers matching {@code buyer} by all fields.
+     * @throws NullPointerException if {@code buyer} is null.
+     */
+    void updateFilteredSellerListToMatch(Buyer buyer);
+
+    /**
+     * Updates the filter of the filtered seller list to show only the sellers in {@code topMatches}.
+     * @throws NullPointerException if {@code topMatches} is null.
+     */
+    void updateFilteredSellerListToTopMatches(List<ScoredMatch> topMatches);
+
 }
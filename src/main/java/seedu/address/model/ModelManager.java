@@ -4,15 +4,39 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SortSettings;
+import seedu.address.commons.util.ComparatorUtil;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Phone;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedFilteredList;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PriceRangeIndex;
+import seedu.address.model.match.MatchPairList;
+import seedu.address.model.match.MatchSets;
+import seedu.address.model.match.ParallelMatcher;
+import seedu.address.model.match.SweepLineMatcher;
+import seedu.address.model.match.TopKMatcher;
+import seedu.address.model.match.TopKMatcher.ScoredMatch;
+import seedu.address.model.property.PriceRange;
 //import seedu.address.model.client.NameContainsKeywordsPredicate;
+import seedu.address.model.seller.AllFieldsMatchBuyerPredicate;
 import seedu.address.model.seller.Seller;
 
 /**
@@ -25,9 +49,12 @@ public class ModelManager implements Model {
     private final SellerAddressBook sellerAddressBook;
     private final BuyerAddressBook buyerAddressBook;
     private final UserPrefs userPrefs;
+    private final MatchSets matchSets;
     // private final FilteredList<Client> filteredClients;
-    private final FilteredList<Seller> filteredSellers;
-    private final FilteredList<Buyer> filteredBuyers;
+    private final IndexedFilteredList<Seller> filteredSellers;
+    private final IndexedFilteredList<Buyer> filteredBuyers;
+    private final SortedList<Seller> sortedSellers;
+    private final SortedList<Buyer> sortedBuyers;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -44,8 +71,15 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.sellerAddressBook = new SellerAddressBook(sellerAddressBook);
         this.buyerAddressBook = new BuyerAddressBook(buyerAddressBook);
-        filteredSellers = new FilteredList<>(this.sellerAddressBook.getSellerList());
-        filteredBuyers = new FilteredList<>(this.buyerAddressBook.getBuyerList());
+        // created before the filtered lists so that match counts are up to date when the lists are refiltered
+        matchSets = new MatchSets(this.buyerAddressBook.getBuyerList(), this.buyerAddressBook.getBuyerIndexes(),
+                this.sellerAddressBook.getSellerList(), this.sellerAddressBook.getSellerIndexes());
+        filteredSellers = new IndexedFilteredList<>(this.sellerAddressBook.getSellerList());
+        filteredBuyers = new IndexedFilteredList<>(this.buyerAddressBook.getBuyerList());
+        sortedSellers = new SortedList<>(filteredSellers,
+                ComparatorUtil.getComparator(this.userPrefs.getSellerSortSettings()));
+        sortedBuyers = new SortedList<>(filteredBuyers,
+                ComparatorUtil.getComparator(this.userPrefs.getBuyerSortSettings()));
     }
 
     public ModelManager() {
@@ -58,6 +92,8 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        sortedSellers.setComparator(ComparatorUtil.getComparator(this.userPrefs.getSellerSortSettings()));
+        sortedBuyers.setComparator(ComparatorUtil.getComparator(this.userPrefs.getBuyerSortSettings()));
     }
 
     @Override
@@ -111,6 +147,12 @@ public class ModelManager implements Model {
         return buyerAddressBook.hasBuyer(buyer);
     }
 
+    @Override
+    public boolean hasBuyerPhone(Phone phone) {
+        requireNonNull(phone);
+        return buyerAddressBook.hasPhone(phone);
+    }
+
     @Override
     public void deleteBuyer(Buyer target) {
         buyerAddressBook.removeBuyer(target);
@@ -124,13 +166,14 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Buyer> getFilteredBuyerList() {
-        return filteredBuyers;
+        return sortedBuyers;
     }
 
     @Override
     public void updateFilteredBuyerList(Predicate<Buyer> predicate) {
         requireNonNull(predicate);
-        filteredBuyers.setPredicate(predicate);
+        setPredicate(filteredBuyers, predicate, buyerAddressBook.getBuyerIndexes(),
+                buyerAddressBook::getBuyerPositions);
     }
 
     @Override
@@ -143,10 +186,37 @@ public class ModelManager implements Model {
         return buyerAddressBook;
     }
 
+    @Override
+    public long getBuyerAddressBookVersion() {
+        return buyerAddressBook.getVersion();
+    }
+
     @Override
     public void sortFilteredBuyerList(String comparator, String order) {
-        buyerAddressBook.sortBuyers(comparator, order);
+        userPrefs.setBuyerSortSettings(new SortSettings(comparator, order));
+        sortedBuyers.setComparator(ComparatorUtil.getComparator(comparator, order));
     }
+
+    @Override
+    public MatchPairList getAllMatches() {
+        return SweepLineMatcher.match(buyerAddressBook.getBuyerList(), sellerAddressBook.getSellerList());
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty getMatchCount(Buyer buyer) {
+        requireNonNull(buyer);
+        return matchSets.getMatchCount(buyer);
+    }
+
+    @Override
+    public List<ScoredMatch> getTopMatches(Buyer buyer, int k) {
+        requireNonNull(buyer);
+        PriceRangeIndex<Seller> priceRangeIndex = sellerAddressBook.getSellerIndexes().getPriceRangeIndex();
+        PriceRange priceRange = buyer.getPropertyToBuy().getPriceRange();
+        return TopKMatcher.getTopMatchesAmong(buyer,
+            action -> priceRangeIndex.forEachClientOverlapping(priceRange, action), k);
+    }
+
     //========== For addseller============//
     @Override
     public void addSeller(Seller seller) {
@@ -160,6 +230,12 @@ public class ModelManager implements Model {
         return sellerAddressBook.hasSeller(seller);
     }
 
+    @Override
+    public boolean hasSellerPhone(Phone phone) {
+        requireNonNull(phone);
+        return sellerAddressBook.hasPhone(phone);
+    }
+
     @Override
     public void deleteSeller(Seller target) {
         sellerAddressBook.removeSeller(target);
@@ -173,13 +249,29 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Seller> getFilteredSellerList() {
-        return filteredSellers;
+        return sortedSellers;
     }
 
     @Override
     public void updateFilteredSellerList(Predicate<Seller> predicate) {
         requireNonNull(predicate);
-        filteredSellers.setPredicate(predicate);
+        setPredicate(filteredSellers, predicate, sellerAddressBook.getSellerIndexes(),
+                sellerAddressBook::getSellerPositions);
+    }
+
+    @Override
+    public void updateFilteredSellerListToMatch(Buyer buyer) {
+        requireNonNull(buyer);
+        filteredSellers.setSelection(new AllFieldsMatchBuyerPredicate(buyer),
+                sellerAddressBook.getSellerPositions(matchSets.getMatches(buyer)));
+    }
+
+    @Override
+    public void updateFilteredSellerListToTopMatches(List<ScoredMatch> topMatches) {
+        requireNonNull(topMatches);
+        Set<Seller> topSellers = Collections.newSetFromMap(new IdentityHashMap<>());
+        topMatches.forEach(match -> topSellers.add(match.getSeller()));
+        filteredSellers.setSelection(topSellers::contains, sellerAddressBook.getSellerPositions(topSellers));
     }
 
     @Override
@@ -192,9 +284,41 @@ public class ModelManager implements Model {
         return sellerAddressBook;
     }
 
+    @Override
+    public long getSellerAddressBookVersion() {
+        return sellerAddressBook.getVersion();
+    }
+
     @Override
     public void sortFilteredSellerList(String comparator, String order) {
-        sellerAddressBook.sortSellers(comparator, order);
+        userPrefs.setSellerSortSettings(new SortSettings(comparator, order));
+        sortedSellers.setComparator(ComparatorUtil.getComparator(comparator, order));
+    }
+
+    /**
+     * Applies {@code predicate} to {@code filteredList}.
+     * If {@code predicate} is an {@code IndexedPredicate}, only the candidates taken from {@code indexes} are tested,
+     * instead of every client in the list. Once there are enough clients to test, they are tested in parallel.
+     * Either way, {@code filteredList} is given the positions of the matches, found with {@code positionsOf}, and
+     * does not test any client again.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Client> void setPredicate(IndexedFilteredList<T> filteredList, Predicate<T> predicate,
+                                                 ClientIndexes<T> indexes,
+                                                 Function<Collection<T>, BitSet> positionsOf) {
+        int threshold = userPrefs.getParallelFilterThreshold();
+        Collection<? extends T> clientsToTest;
+        if (predicate instanceof IndexedPredicate) {
+            clientsToTest = ((IndexedPredicate<T>) predicate).getCandidates(indexes);
+        } else if (filteredList.getSource().size() >= threshold) {
+            clientsToTest = filteredList.getSource();
+        } else {
+            filteredList.setPredicate(predicate);
+            return;
+        }
+
+        List<T> matches = ParallelMatcher.filter(clientsToTest, predicate, threshold);
+        filteredList.setSelection(predicate, positionsOf.apply(matches));
     }
 
     @Override
@@ -215,8 +339,8 @@ public class ModelManager implements Model {
         return buyerAddressBook.equals(other.buyerAddressBook)
                 && sellerAddressBook.equals(other.sellerAddressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredBuyers.equals(other.filteredBuyers)
-                && filteredSellers.equals(other.filteredSellers);
+                && sortedBuyers.equals(other.sortedBuyers)
+                && sortedSellers.equals(other.sortedSellers);
     }
 
 
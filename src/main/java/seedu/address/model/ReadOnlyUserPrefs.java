@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.Durability;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SortSettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -17,4 +19,29 @@ public interface ReadOnlyUserPrefs {
 
     Path getBuyerAddressBookFilePath();
 
+    /**
+     * Returns the number of clients from which filters and matches are tested in parallel.
+     */
+    int getParallelFilterThreshold();
+
+    /**
+     * Returns the size in bytes from which the journals of saved changes are folded into new snapshots.
+     */
+    long getJournalCompactionThreshold();
+
+    /**
+     * Returns how hard saves of the address books try to make sure that the data written survives a crash.
+     */
+    Durability getSaveDurability();
+
+    /**
+     * Returns how the displayed seller list is sorted.
+     */
+    SortSettings getSellerSortSettings();
+
+    /**
+     * Returns how the displayed buyer list is sorted.
+     */
+    SortSettings getBuyerSortSettings();
+
 }
@@ -2,9 +2,15 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.index.ClientIndexes;
 import seedu.address.model.seller.Seller;
 import seedu.address.model.seller.UniqueSellerList;
 
@@ -16,6 +22,11 @@ public class SellerAddressBook implements ReadOnlySellerAddressBook {
 
     private final UniqueSellerList sellers;
 
+    /**
+     * Counts the changes made to the seller list, so that callers can tell whether it changed since they last looked.
+     */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -27,7 +38,12 @@ public class SellerAddressBook implements ReadOnlySellerAddressBook {
         sellers = new UniqueSellerList();
     }
 
-    public SellerAddressBook() {}
+    /**
+     * Creates an empty SellerAddressBook.
+     */
+    public SellerAddressBook() {
+        sellers.asUnmodifiableObservableList().addListener((ListChangeListener<Seller>) change -> version++);
+    }
 
     /**
      * Creates an AddressBook using the clients in the {@code toBeCopied}
@@ -42,6 +58,9 @@ public class SellerAddressBook implements ReadOnlySellerAddressBook {
     /**
      * Replaces the contents of the seller list with {@code sellers}.
      * {@code sellers} must not contain duplicate sellers.
+     * Prefer this over repeated {@link #addSeller(Seller)} calls when loading many sellers at once.
+     *
+     * @throws DuplicateClientException listing every duplicated seller if {@code sellers} is not unique.
      */
     public void setSellers(List<Seller> sellers) {
         this.sellers.setSellers(sellers);
@@ -67,6 +86,17 @@ public class SellerAddressBook implements ReadOnlySellerAddressBook {
         return sellers.contains(seller);
     }
 
+    /**
+     * Checks if a seller in the seller list has the phone number {@code phone}.
+     *
+     * @param phone The phone number.
+     * @return Whether a seller with the phone number is already in list.
+     */
+    public boolean hasPhone(Phone phone) {
+        requireNonNull(phone);
+        return getSellerIndexes().getPhoneIndex().contains(phone.value);
+    }
+
     /**
      * Adds a new seller to the client list.
      *
@@ -103,11 +133,33 @@ public class SellerAddressBook implements ReadOnlySellerAddressBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns the number of changes made to the seller list so far.
+     * Any change to the list, including a reordering, increases it.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Seller> getSellerList() {
         return sellers.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the positions in the seller list of {@code toFind}, compared by identity, as a bitmap.
+     */
+    public BitSet getSellerPositions(Collection<? extends Seller> toFind) {
+        return sellers.getPositions(toFind);
+    }
+
+    /**
+     * Returns the secondary indexes over the sellers in this address book.
+     */
+    public ClientIndexes<Seller> getSellerIndexes() {
+        return sellers.getIndexes();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -119,8 +171,4 @@ public class SellerAddressBook implements ReadOnlySellerAddressBook {
     public int hashCode() {
         return sellers.hashCode();
     }
-
-    public void sortSellers(String comparedItem, String order) {
-        sellers.sortSellers(comparedItem, order);
-    }
 }
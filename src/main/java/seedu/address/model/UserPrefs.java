@@ -1,22 +1,37 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.Durability;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SortSettings;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 20000;
+    public static final String MESSAGE_INVALID_PARALLEL_FILTER_THRESHOLD =
+            "Parallel filter threshold should be a positive integer";
+    public static final long DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1024 * 1024;
+    public static final String MESSAGE_INVALID_JOURNAL_COMPACTION_THRESHOLD =
+            "Journal compaction threshold should not be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path sellerAddressBookFilePath = Paths.get("data" , "selleraddressbook.json");
     private Path buyerAddressBookFilePath = Paths.get("data", "buyeraddressbook.json");
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private long journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private Durability saveDurability = Durability.SYNCED;
+    private SortSettings sellerSortSettings = new SortSettings();
+    private SortSettings buyerSortSettings = new SortSettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +55,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setSellerAddressBookFilePath(newUserPrefs.getSellerAddressBookFilePath());
         setBuyerAddressBookFilePath(newUserPrefs.getBuyerAddressBookFilePath());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
+        setJournalCompactionThreshold(newUserPrefs.getJournalCompactionThreshold());
+        setSaveDurability(newUserPrefs.getSaveDurability());
+        setSellerSortSettings(newUserPrefs.getSellerSortSettings());
+        setBuyerSortSettings(newUserPrefs.getBuyerSortSettings());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +98,58 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.buyerAddressBookFilePath = buyerAddressBookFilePath;
     }
 
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    /**
+     * Sets the number of clients from which filters and matches are tested in parallel.
+     */
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        checkArgument(parallelFilterThreshold > 0, MESSAGE_INVALID_PARALLEL_FILTER_THRESHOLD);
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    /**
+     * Sets the size in bytes from which the journals of saved changes are folded into new snapshots.
+     * A threshold of 0 turns the journals off, so that every save writes a full snapshot.
+     */
+    public void setJournalCompactionThreshold(long journalCompactionThreshold) {
+        checkArgument(journalCompactionThreshold >= 0, MESSAGE_INVALID_JOURNAL_COMPACTION_THRESHOLD);
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public Durability getSaveDurability() {
+        return saveDurability;
+    }
+
+    public void setSaveDurability(Durability saveDurability) {
+        requireNonNull(saveDurability);
+        this.saveDurability = saveDurability;
+    }
+
+    public SortSettings getSellerSortSettings() {
+        return sellerSortSettings;
+    }
+
+    public void setSellerSortSettings(SortSettings sellerSortSettings) {
+        requireNonNull(sellerSortSettings);
+        this.sellerSortSettings = sellerSortSettings;
+    }
+
+    public SortSettings getBuyerSortSettings() {
+        return buyerSortSettings;
+    }
+
+    public void setBuyerSortSettings(SortSettings buyerSortSettings) {
+        requireNonNull(buyerSortSettings);
+        this.buyerSortSettings = buyerSortSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -90,12 +162,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && parallelFilterThreshold == o.parallelFilterThreshold
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && saveDurability == o.saveDurability
+                && sellerSortSettings.equals(o.sellerSortSettings)
+                && buyerSortSettings.equals(o.buyerSortSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, parallelFilterThreshold, journalCompactionThreshold,
+                saveDurability, sellerSortSettings, buyerSortSettings);
     }
 
     @Override
@@ -0,0 +1,75 @@
+package seedu.address.model.buyer;
+
+import java.util.Set;
+
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.property.House;
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.NullPropertyToBuy;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.property.PropertyToBuy;
+import seedu.address.model.property.PropertyToSell;
+import seedu.address.model.seller.Seller;
+
+/**
+ * Tests that a {@code Buyer}'s {@code PropertyToBuy} is matched by a given {@code Seller}'s {@code PropertyToSell}.
+ * This is the reverse of {@code AllFieldsMatchBuyerPredicate}, so a buyer passes exactly when that predicate for the
+ * buyer would accept the seller.
+ */
+public class AllFieldsMatchSellerPredicate implements IndexedPredicate<Buyer> {
+
+    /**
+     * Seller in UniqueSellerList to match with.
+     */
+    private final Seller seller;
+
+    public AllFieldsMatchSellerPredicate(Seller seller) {
+        this.seller = seller;
+    }
+
+    /**
+     * Tests whether the Seller (provided by the index) matches with a Buyer.
+     * @param buyer the buyer we are matching the Seller with.
+     * @return True if {@code Buyer}'s {@code PropertyToBuy} is matched by the {@code Seller}'s {@code PropertyToSell}.
+     */
+    @Override
+    public boolean test(Buyer buyer) {
+        PropertyToSell propertyToSell = getPropertyToSell();
+        PropertyToBuy propertyToBuy = buyer.getPropertyToBuy();
+
+        boolean isMatchedPrices = PriceRange.canMatchPrice(propertyToBuy.getPriceRange(),
+                propertyToSell.getPriceRange());
+
+        House houseToBuy = propertyToBuy.getHouse();
+        House houseToSell = propertyToSell.getHouse();
+
+        //either the houses are exactly the same or, buyer house type is unspecified and the location matches.
+        boolean isMatchedHouse = houseToBuy.equals(houseToSell)
+                || (houseToBuy.getHouseType().equals(HouseType.UNSPECIFIED)
+                        && houseToBuy.getLocation().equals(houseToSell.getLocation()));
+
+        boolean isNotNullProperty = !(propertyToBuy instanceof NullPropertyToBuy);
+
+        return isMatchedPrices && isMatchedHouse && isNotNullProperty;
+    }
+
+    /**
+     * Returns the buyers at the Seller's Location who want the Seller's house type or left it unspecified, and whose
+     * PriceRange overlaps the Seller's.
+     */
+    @Override
+    public Set<Buyer> getCandidates(ClientIndexes<Buyer> indexes) {
+        PropertyToSell propertyToSell = getPropertyToSell();
+        House houseToSell = propertyToSell.getHouse();
+        HouseType sellType = houseToSell.getHouseType();
+
+        return indexes.getHousePriceIndex().getClientsAt(houseToSell.getLocation(),
+            houseType -> houseType.equals(sellType) || houseType.equals(HouseType.UNSPECIFIED),
+            propertyToSell.getPriceRange());
+    }
+
+    public PropertyToSell getPropertyToSell() {
+        return seller.getPropertyToSell();
+    }
+}
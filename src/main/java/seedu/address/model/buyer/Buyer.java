@@ -18,6 +18,10 @@ public class Buyer extends Client {
     // Data fields
     private final PropertyToBuy propertyToBuy;
 
+    // Lower-cased copies of the property fields searched on, computed once rather than on every query
+    private final String locationKey;
+    private final String houseTypeKey;
+
     /**
      * Constructor of Buyer class.
      */
@@ -25,6 +29,8 @@ public class Buyer extends Client {
                  PropertyToBuy propertyToBuy) {
         super(name, phone, appointment, tags);
         this.propertyToBuy = propertyToBuy;
+        this.locationKey = propertyToBuy.getHouse().getLocation().toString().toLowerCase();
+        this.houseTypeKey = propertyToBuy.getHouse().getHouseType().toString().toLowerCase();
     }
 
 
@@ -37,6 +43,20 @@ public class Buyer extends Client {
         return propertyToBuy;
     }
 
+    /**
+     * Returns the lower-cased location of the buyer's property.
+     */
+    public String getLocationKey() {
+        return locationKey;
+    }
+
+    /**
+     * Returns the lower-cased house type of the buyer's property.
+     */
+    public String getHouseTypeKey() {
+        return houseTypeKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
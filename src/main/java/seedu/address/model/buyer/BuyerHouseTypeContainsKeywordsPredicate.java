@@ -1,25 +1,47 @@
 package seedu.address.model.buyer;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.property.HouseType;
 
 /**
  * Tests that a {@code Buyer}'s {@code Housetype} matches any of the keywords given.
  */
-public class BuyerHouseTypeContainsKeywordsPredicate implements Predicate<Buyer> {
+public class BuyerHouseTypeContainsKeywordsPredicate implements IndexedPredicate<Buyer> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate for {@code keywords}, each of which must be a single word, compiling them into one matcher.
+     */
     public BuyerHouseTypeContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Buyer buyer) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        buyer.getPropertyToBuy().getHouse().getHouseType().toString(), keyword));
+        return matches(buyer.getHouseTypeKey());
+    }
+
+    /**
+     * Returns the buckets of every house type that matches a keyword.
+     */
+    @Override
+    public Set<Buyer> getCandidates(ClientIndexes<Buyer> indexes) {
+        return indexes.getHouseTypeIndex().getClientsOf(this::matches);
+    }
+
+    private boolean matches(HouseType houseType) {
+        return matches(houseType.toString().toLowerCase());
+    }
+
+    private boolean matches(String houseTypeKey) {
+        return matcher.isFoundIn(houseTypeKey);
     }
 
     @Override
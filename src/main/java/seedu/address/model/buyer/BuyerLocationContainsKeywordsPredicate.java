@@ -1,25 +1,47 @@
 package seedu.address.model.buyer;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.property.Location;
 
 /**
  * Tests that a {@code Buyer}'s {@code Location} matches any of the keywords given.
  */
-public class BuyerLocationContainsKeywordsPredicate implements Predicate<Buyer> {
+public class BuyerLocationContainsKeywordsPredicate implements IndexedPredicate<Buyer> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate for {@code keywords}, each of which must be a single word, compiling them into one matcher.
+     */
     public BuyerLocationContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Buyer buyer) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        buyer.getPropertyToBuy().getHouse().getLocation().toString(), keyword));
+        return matches(buyer.getLocationKey());
+    }
+
+    /**
+     * Returns the buyers at every indexed location that matches a keyword, checking each distinct location once.
+     */
+    @Override
+    public Set<Buyer> getCandidates(ClientIndexes<Buyer> indexes) {
+        return indexes.getLocationIndex().getClientsAt(this::matches);
+    }
+
+    private boolean matches(Location location) {
+        return matches(location.toString().toLowerCase());
+    }
+
+    private boolean matches(String locationKey) {
+        return matcher.isFoundIn(locationKey);
     }
 
     @Override
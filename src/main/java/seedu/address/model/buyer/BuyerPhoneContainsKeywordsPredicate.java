@@ -1,24 +1,42 @@
 package seedu.address.model.buyer;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
 
 /**
  * Tests that a {@code Buyer}'s {@code Phone} matches any of the keywords given.
  */
-public class BuyerPhoneContainsKeywordsPredicate implements Predicate<Buyer> {
+public class BuyerPhoneContainsKeywordsPredicate implements IndexedPredicate<Buyer> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate for {@code keywords}, each of which must be a single word, compiling them into one matcher.
+     */
     public BuyerPhoneContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Buyer buyer) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(buyer.getPhone().value, keyword));
+        return matcher.isFoundIn(buyer.getPhone().value);
+    }
+
+    /**
+     * Returns the buyers whose phone number contains some keyword, looked up in the phone index.
+     */
+    @Override
+    public Set<Buyer> getCandidates(ClientIndexes<Buyer> indexes) {
+        Set<Buyer> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword -> candidates.addAll(indexes.getPhoneIndex().getClientsContaining(keyword)));
+        return candidates;
     }
 
     @Override
@@ -0,0 +1,46 @@
+package seedu.address.model.buyer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.property.NullPropertyToBuy;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.property.PropertyToBuy;
+
+/**
+ * Tests that a {@code Buyer} has a property whose {@code PriceRange} shares at least one price with the price range
+ * given.
+ */
+public class BuyerPriceRangeOverlapsPredicate implements IndexedPredicate<Buyer> {
+    private final PriceRange priceRange;
+
+    public BuyerPriceRangeOverlapsPredicate(PriceRange priceRange) {
+        this.priceRange = requireNonNull(priceRange);
+    }
+
+    @Override
+    public boolean test(Buyer buyer) {
+        PropertyToBuy propertyToBuy = buyer.getPropertyToBuy();
+        return !(propertyToBuy instanceof NullPropertyToBuy)
+                && PriceRange.canMatchPrice(priceRange, propertyToBuy.getPriceRange());
+    }
+
+    /**
+     * Returns the buyers whose price range overlaps the given one, looked up in the price range index.
+     */
+    @Override
+    public Set<Buyer> getCandidates(ClientIndexes<Buyer> indexes) {
+        return indexes.getPriceRangeIndex().getClientsOverlapping(priceRange);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BuyerPriceRangeOverlapsPredicate // instanceof handles nulls
+                && priceRange.equals(((BuyerPriceRangeOverlapsPredicate) other).priceRange)); // state check
+    }
+
+}
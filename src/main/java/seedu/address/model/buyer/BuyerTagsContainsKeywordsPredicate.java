@@ -1,24 +1,52 @@
 package seedu.address.model.buyer;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
 
 /**
- * Tests that a {@code Buyer}'s {@code Name} matches any of the keywords given.
+ * Tests that any of a {@code Buyer}'s tags matches any of the keywords given, ignoring case.
+ * A keyword in double quotes matches a tag with exactly that name; any other keyword matches the tags starting with it.
  */
-public class BuyerTagsContainsKeywordsPredicate implements Predicate<Buyer> {
+public class BuyerTagsContainsKeywordsPredicate implements IndexedPredicate<Buyer> {
     private final List<String> keywords;
+    private final List<String> exactNames;
+    private final List<String> prefixes;
 
+    /**
+     * Creates a predicate for {@code keywords}, sorting them into exact tag names and prefixes.
+     */
     public BuyerTagsContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.exactNames = keywords.stream()
+                .filter(BuyerTagsContainsKeywordsPredicate::isQuoted)
+                .map(keyword -> keyword.substring(1, keyword.length() - 1).toLowerCase())
+                .collect(Collectors.toList());
+        this.prefixes = keywords.stream()
+                .filter(keyword -> !isQuoted(keyword))
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Buyer buyer) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(buyer.getTags().toString(), keyword));
+        return buyer.getTagKeys().stream()
+                .anyMatch(tagName -> exactNames.contains(tagName) || prefixes.stream().anyMatch(tagName::startsWith));
+    }
+
+    /**
+     * Returns the buyers with a matching tag, looked up in the tag index.
+     */
+    @Override
+    public Set<Buyer> getCandidates(ClientIndexes<Buyer> indexes) {
+        return indexes.getTagIndex().getClientsTaggedWithAny(exactNames, prefixes);
+    }
+
+    private static boolean isQuoted(String keyword) {
+        return keyword.length() > 2 && keyword.startsWith("\"") && keyword.endsWith("\"");
     }
 
     @Override
@@ -3,15 +3,25 @@ package seedu.address.model.buyer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.commons.util.ComparatorUtil;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.Name;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.property.NullPropertyToBuy;
 
 /**
  * A list of clients that enforces uniqueness between its elements and does not allow nulls.
@@ -30,12 +40,31 @@ public class UniqueBuyerList implements Iterable<Buyer> {
     private final ObservableList<Buyer> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Index of the buyers in {@code internalList} keyed by {@code Name}, the identity field used by
+     * {@code Client#isSameclient(Client)}. Must be kept in step with every change to {@code internalList}.
+     */
+    private final Map<Name, Buyer> buyersByName = new HashMap<>();
+
+    /**
+     * Position of every buyer object in {@code internalList}, compared by identity so that {@code equals} is never
+     * called while resolving the target of an edit or delete. Rebuilt after reorderings such as sorts.
+     */
+    private final Map<Buyer, Integer> positions = new IdentityHashMap<>();
+
+    /**
+     * Secondary indexes over the buyers in {@code internalList}, updated before each change to it.
+     */
+    private final ClientIndexes<Buyer> indexes = new ClientIndexes<>(
+        buyer -> buyer.getPropertyToBuy().getHouse(), buyer -> buyer.getPropertyToBuy().getPriceRange(),
+        buyer -> !(buyer.getPropertyToBuy() instanceof NullPropertyToBuy));
+
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameclient);
+        return buyersByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -47,7 +76,10 @@ public class UniqueBuyerList implements Iterable<Buyer> {
         if (contains(toAdd)) {
             throw new DuplicateClientException();
         }
+        indexes.add(toAdd);
         internalList.add(toAdd);
+        buyersByName.put(toAdd.getName(), toAdd);
+        positions.put(toAdd, internalList.size() - 1);
     }
 
     /**
@@ -58,16 +90,20 @@ public class UniqueBuyerList implements Iterable<Buyer> {
     public void setBuyer(Buyer target, Buyer editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ClientNotFoundException();
-        }
+        Buyer existing = find(target);
+        int index = positions.get(existing);
 
         if (!target.isSameclient(editedClient) && contains(editedClient)) {
             throw new DuplicateClientException();
         }
 
+        indexes.remove(existing);
+        indexes.add(editedClient);
         internalList.set(index, editedClient);
+        buyersByName.remove(existing.getName());
+        buyersByName.put(editedClient.getName(), editedClient);
+        positions.remove(existing);
+        positions.put(editedClient, index);
     }
 
     /**
@@ -76,46 +112,99 @@ public class UniqueBuyerList implements Iterable<Buyer> {
      */
     public void remove(Buyer toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new ClientNotFoundException();
-        }
+        Buyer existing = find(toRemove);
+        int index = positions.remove(existing);
+
+        indexes.remove(existing);
+        internalList.remove(index);
+        buyersByName.remove(existing.getName());
+        updatePositionsFrom(index);
     }
 
     public void setBuyers(UniqueBuyerList replacement) {
         requireNonNull(replacement);
+        indexes.reset(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        buyersByName.clear();
+        buyersByName.putAll(replacement.buyersByName);
+        positions.clear();
+        positions.putAll(replacement.positions);
     }
 
     /**
      * Replaces the contents of this list with {@code clients}.
      * {@code clients} must not contain duplicate clients.
+     * Uniqueness is validated in a single hashed pass and the backing list is filled with one {@code setAll},
+     * so this is also the bulk-load path used when reading a whole address book.
+     *
+     * @throws DuplicateClientException listing every duplicated identity if {@code clients} is not unique.
      */
     public void setBuyers(List<Buyer> buyers) {
         requireAllNonNull(buyers);
-        if (!clientsAreUnique(buyers)) {
-            throw new DuplicateClientException();
+        Map<Name, Buyer> newIndex = new HashMap<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Buyer buyer : buyers) {
+            if (newIndex.putIfAbsent(buyer.getName(), buyer) != null) {
+                duplicateNames.add(buyer.getName());
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateClientException(new ArrayList<>(duplicateNames));
         }
 
+        indexes.reset(buyers);
         internalList.setAll(buyers);
+        buyersByName.clear();
+        buyersByName.putAll(newIndex);
+        positions.clear();
+        updatePositionsFrom(0);
     }
 
     /**
-     * Sorts the buyer according to {@code comparator} and in {@code order} order.
+     * Returns the buyer object stored in this list that is equal to {@code target}.
+     * Only the buyer with the same name can be equal to {@code target}, so this avoids scanning the list.
+     *
+     * @throws ClientNotFoundException if no such buyer exists.
      */
-    public void sortBuyers(String comparator, String order) {
-        if (comparator.equals("name")) {
-            if (order.equals("asc")) {
-                internalList.sort(ComparatorUtil.NAME_COMPARATOR_ASC);
-            } else {
-                internalList.sort(ComparatorUtil.NAME_COMPARATOR_DESC);
-            }
-        } else {
-            if (order.equals("asc")) {
-                internalList.sort(ComparatorUtil.TIME_COMPARATOR_ASC);
-            } else {
-                internalList.sort(ComparatorUtil.TIME_COMAPRATOR_DESC);
+    private Buyer find(Buyer target) {
+        Buyer existing = buyersByName.get(target.getName());
+        if (existing == null || !existing.equals(target)) {
+            throw new ClientNotFoundException();
+        }
+        return existing;
+    }
+
+    /**
+     * Records the current position of every buyer from {@code start} to the end of {@code internalList}.
+     */
+    private void updatePositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the positions in this list of {@code buyers}, compared by identity, as a bitmap.
+     * Buyers that are not in this list are left out.
+     */
+    public BitSet getPositions(Collection<? extends Buyer> buyers) {
+        requireNonNull(buyers);
+        BitSet bits = new BitSet(internalList.size());
+        for (Buyer buyer : buyers) {
+            Integer position = positions.get(buyer);
+            if (position != null) {
+                bits.set(position);
             }
         }
+        return bits;
+    }
+
+    /**
+     * Returns the secondary indexes over this list. They are kept up to date by this list and must not be
+     * modified by callers.
+     */
+    public ClientIndexes<Buyer> getIndexes() {
+        return indexes;
     }
 
     /**
@@ -141,18 +230,4 @@ public class UniqueBuyerList implements Iterable<Buyer> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code clients} contains only unique clients.
-     */
-    private boolean clientsAreUnique(List<Buyer> buyers) {
-        for (int i = 0; i < buyers.size() - 1; i++) {
-            for (int j = i + 1; j < buyers.size(); j++) {
-                if (buyers.get(i).isSameclient(buyers.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -4,8 +4,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.model.tag.Tag;
 
@@ -23,6 +25,10 @@ public class Client {
     private final Appointment appointment;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Lower-cased copies of the fields searched and sorted on, computed once rather than on every query
+    private final String nameKey;
+    private final List<String> tagKeys;
+
     /**
      * Every field must be present and not null.
      */
@@ -32,6 +38,10 @@ public class Client {
         this.phone = phone;
         this.tags.addAll(tags);
         this.appointment = appointment;
+        this.nameKey = name.fullName.toLowerCase();
+        this.tagKeys = tags.stream()
+                .map(tag -> tag.tagName.toLowerCase())
+                .collect(Collectors.toUnmodifiableList());
     }
 
     public Name getName() {
@@ -54,6 +64,20 @@ public class Client {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the lower-cased name of the client, which is searched by name finds and compared by name sorts.
+     */
+    public String getNameKey() {
+        return nameKey;
+    }
+
+    /**
+     * Returns the lower-cased names of the client's tags.
+     */
+    public List<String> getTagKeys() {
+        return tagKeys;
+    }
+
     /**
      * Returns true if both clients have the same name.
      * This defines a weaker notion of equality between two clients.
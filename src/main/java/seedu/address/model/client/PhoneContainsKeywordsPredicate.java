@@ -3,22 +3,26 @@ package seedu.address.model.client;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 
 /**
  * Tests that a {@code Client}'s {@code Phone} matches any of the keywords given.
  */
 public class PhoneContainsKeywordsPredicate implements Predicate<Client> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate for {@code keywords}, each of which must be a single word, compiling them into one matcher.
+     */
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Client client) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(client.getPhone().value, keyword));
+        return matcher.isFoundIn(client.getPhone().value);
     }
 
     @Override
@@ -1,11 +1,46 @@
 package seedu.address.model.client.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.client.Name;
+
 /**
  * Signals that the operation will result in duplicate clients (clients are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateClientException extends RuntimeException {
+
+    private final List<Name> duplicateNames;
+
+    /**
+     * Creates an exception that does not record which clients were duplicated.
+     */
     public DuplicateClientException() {
         super("Operation would result in duplicate clients");
+        duplicateNames = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception that reports every client identity in {@code duplicateNames} that occurs more than once.
+     */
+    public DuplicateClientException(List<Name> duplicateNames) {
+        super("Operation would result in duplicate clients: " + joinNames(duplicateNames));
+        this.duplicateNames = Collections.unmodifiableList(duplicateNames);
+    }
+
+    /**
+     * Returns the names of the duplicated clients, or an empty list if they were not recorded.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
+    }
+
+    /**
+     * Returns the names in {@code names} as a comma-separated string.
+     */
+    public static String joinNames(List<Name> names) {
+        return names.stream().map(name -> name.fullName).collect(Collectors.joining(", "));
     }
 }
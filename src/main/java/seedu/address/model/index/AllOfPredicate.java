@@ -0,0 +1,65 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.client.Client;
+
+/**
+ * Tests that a client satisfies every one of several indexed predicates.
+ * Candidates are planned from the indexes: the candidate sets of the predicates are intersected starting from the
+ * smallest, the most selective, so the working set only shrinks and no client outside it is looked at again.
+ */
+public class AllOfPredicate<T extends Client> implements IndexedPredicate<T> {
+
+    private final List<IndexedPredicate<T>> predicates;
+
+    /**
+     * Creates a predicate that accepts the clients accepted by all of {@code predicates}.
+     * There must be at least one predicate.
+     */
+    public AllOfPredicate(List<? extends IndexedPredicate<T>> predicates) {
+        requireNonNull(predicates);
+        checkArgument(!predicates.isEmpty(), "There must be at least one predicate");
+        this.predicates = List.copyOf(predicates);
+    }
+
+    @Override
+    public boolean test(T client) {
+        return predicates.stream().allMatch(predicate -> predicate.test(client));
+    }
+
+    @Override
+    public Set<T> getCandidates(ClientIndexes<T> indexes) {
+        List<Set<T>> candidatesPerPredicate = new ArrayList<>();
+        for (IndexedPredicate<T> predicate : predicates) {
+            Set<T> candidates = predicate.getCandidates(indexes);
+            if (candidates.isEmpty()) {
+                return Collections.emptySet();
+            }
+            candidatesPerPredicate.add(candidates);
+        }
+
+        candidatesPerPredicate.sort(Comparator.comparingInt(Set::size));
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(candidatesPerPredicate.get(0));
+        for (int i = 1; i < candidatesPerPredicate.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(candidatesPerPredicate.get(i));
+        }
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllOfPredicate // instanceof handles nulls
+                && predicates.equals(((AllOfPredicate<?>) other).predicates)); // state check
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.client.Client;
+
+/**
+ * Tests that a client satisfies at least one of several indexed predicates.
+ * The candidates are the union of the candidates of each predicate.
+ */
+public class AnyOfPredicate<T extends Client> implements IndexedPredicate<T> {
+
+    private final List<IndexedPredicate<T>> predicates;
+
+    /**
+     * Creates a predicate that accepts the clients accepted by any of {@code predicates}.
+     * There must be at least one predicate.
+     */
+    public AnyOfPredicate(List<? extends IndexedPredicate<T>> predicates) {
+        requireNonNull(predicates);
+        checkArgument(!predicates.isEmpty(), "There must be at least one predicate");
+        this.predicates = List.copyOf(predicates);
+    }
+
+    @Override
+    public boolean test(T client) {
+        return predicates.stream().anyMatch(predicate -> predicate.test(client));
+    }
+
+    @Override
+    public Set<T> getCandidates(ClientIndexes<T> indexes) {
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        predicates.forEach(predicate -> candidates.addAll(predicate.getCandidates(indexes)));
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AnyOfPredicate // instanceof handles nulls
+                && predicates.equals(((AnyOfPredicate<?>) other).predicates)); // state check
+    }
+}
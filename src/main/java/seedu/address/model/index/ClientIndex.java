@@ -0,0 +1,28 @@
+package seedu.address.model.index;
+
+import seedu.address.model.client.Client;
+
+/**
+ * A secondary index over the clients held by a unique client list.
+ * The owning list reports every change through these methods before making the change visible in its
+ * {@code ObservableList}, so the index is never behind the list while listeners run.
+ * Clients are tracked by identity, and an index must remember the key each client was added under so that
+ * {@link #remove(Client)} does not depend on the client's current field values.
+ */
+public interface ClientIndex<T extends Client> {
+
+    /**
+     * Adds {@code client} to the index.
+     */
+    void add(T client);
+
+    /**
+     * Removes {@code client} from the index. Does nothing if {@code client} was never added.
+     */
+    void remove(T client);
+
+    /**
+     * Removes every client from the index.
+     */
+    void clear();
+}
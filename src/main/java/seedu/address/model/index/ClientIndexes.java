@@ -0,0 +1,99 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.property.House;
+import seedu.address.model.property.PriceRange;
+
+/**
+ * The secondary indexes kept for one unique client list.
+ * Changes reported to this object are forwarded to every index it holds.
+ */
+public class ClientIndexes<T extends Client> implements ClientIndex<T> {
+
+    private final LocationIndex<T> locationIndex;
+    private final HouseTypeIndex<T> houseTypeIndex;
+    private final PriceRangeIndex<T> priceRangeIndex;
+    private final HousePriceIndex<T> housePriceIndex;
+    private final NameTrigramIndex<T> nameIndex;
+    private final PhoneTrie<T> phoneIndex;
+    private final TagIndex<T> tagIndex;
+    private final List<ClientIndex<T>> indexes;
+
+    /**
+     * Creates empty indexes that read the house of a client's property with {@code houseOf} and its price range
+     * with {@code priceRangeOf}. Clients that fail {@code hasProperty} are left out of the price range index, so
+     * that the placeholder range of a client without a property never matches a price query.
+     */
+    public ClientIndexes(Function<T, House> houseOf, Function<T, PriceRange> priceRangeOf,
+            Predicate<T> hasProperty) {
+        requireNonNull(houseOf);
+        requireNonNull(priceRangeOf);
+        requireNonNull(hasProperty);
+        locationIndex = new LocationIndex<>(client -> houseOf.apply(client).getLocation());
+        houseTypeIndex = new HouseTypeIndex<>(client -> houseOf.apply(client).getHouseType());
+        priceRangeIndex = new PriceRangeIndex<>(priceRangeOf, hasProperty);
+        housePriceIndex = new HousePriceIndex<>(houseOf, priceRangeOf);
+        nameIndex = new NameTrigramIndex<>(client -> client.getName().fullName);
+        phoneIndex = new PhoneTrie<>(client -> client.getPhone().value);
+        tagIndex = new TagIndex<>();
+        indexes = List.of(locationIndex, houseTypeIndex, priceRangeIndex, housePriceIndex, nameIndex, phoneIndex,
+                tagIndex);
+    }
+
+    @Override
+    public void add(T client) {
+        indexes.forEach(index -> index.add(client));
+    }
+
+    @Override
+    public void remove(T client) {
+        indexes.forEach(index -> index.remove(client));
+    }
+
+    @Override
+    public void clear() {
+        indexes.forEach(ClientIndex::clear);
+    }
+
+    /**
+     * Replaces the contents of every index with {@code clients}.
+     */
+    public void reset(Iterable<? extends T> clients) {
+        clear();
+        clients.forEach(this::add);
+    }
+
+    public LocationIndex<T> getLocationIndex() {
+        return locationIndex;
+    }
+
+    public HouseTypeIndex<T> getHouseTypeIndex() {
+        return houseTypeIndex;
+    }
+
+    public PriceRangeIndex<T> getPriceRangeIndex() {
+        return priceRangeIndex;
+    }
+
+    public HousePriceIndex<T> getHousePriceIndex() {
+        return housePriceIndex;
+    }
+
+    public NameTrigramIndex<T> getNameIndex() {
+        return nameIndex;
+    }
+
+    public PhoneTrie<T> getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    public TagIndex<T> getTagIndex() {
+        return tagIndex;
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.property.House;
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.PriceRange;
+
+/**
+ * A composite index that groups clients into cells by the {@code Location} and {@code HouseType} of their property,
+ * and keeps the price ranges within each cell in an interval tree.
+ * A match query visits only the cells at one location whose house types it accepts, and only the overlapping ranges
+ * within those cells.
+ */
+public class HousePriceIndex<T extends Client> implements ClientIndex<T> {
+
+    private final Function<T, House> houseOf;
+    private final Function<T, PriceRange> priceRangeOf;
+
+    /**
+     * Cells keyed by location, then by house type. Empty cells and locations are removed.
+     */
+    private final Map<Location, Map<HouseType, PriceIntervalTree<T>>> cells = new HashMap<>();
+
+    /**
+     * The house and price range each client was indexed under.
+     */
+    private final Map<T, House> houses = new IdentityHashMap<>();
+    private final Map<T, PriceRange> priceRanges = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index that reads the house of a client's property with {@code houseOf} and its price range
+     * with {@code priceRangeOf}.
+     */
+    public HousePriceIndex(Function<T, House> houseOf, Function<T, PriceRange> priceRangeOf) {
+        requireNonNull(houseOf);
+        requireNonNull(priceRangeOf);
+        this.houseOf = houseOf;
+        this.priceRangeOf = priceRangeOf;
+    }
+
+    @Override
+    public void add(T client) {
+        requireNonNull(client);
+        House house = houseOf.apply(client);
+        PriceRange priceRange = priceRangeOf.apply(client);
+        houses.put(client, house);
+        priceRanges.put(client, priceRange);
+        cells.computeIfAbsent(house.getLocation(), unused -> new EnumMap<>(HouseType.class))
+                .computeIfAbsent(house.getHouseType(), unused -> new PriceIntervalTree<>())
+                .add(priceRange, client);
+    }
+
+    @Override
+    public void remove(T client) {
+        requireNonNull(client);
+        House house = houses.remove(client);
+        if (house == null) {
+            return;
+        }
+        PriceRange priceRange = priceRanges.remove(client);
+
+        Map<HouseType, PriceIntervalTree<T>> cellsAtLocation = cells.get(house.getLocation());
+        PriceIntervalTree<T> cell = cellsAtLocation.get(house.getHouseType());
+        cell.remove(priceRange, client);
+        if (cell.isEmpty()) {
+            cellsAtLocation.remove(house.getHouseType());
+        }
+        if (cellsAtLocation.isEmpty()) {
+            cells.remove(house.getLocation());
+        }
+    }
+
+    @Override
+    public void clear() {
+        cells.clear();
+        houses.clear();
+        priceRanges.clear();
+    }
+
+    /**
+     * Returns the clients at {@code location} with a house type accepted by {@code houseTypeFilter} and a price range
+     * overlapping {@code priceRange}, compared by identity.
+     */
+    public Set<T> getClientsAt(Location location, Predicate<HouseType> houseTypeFilter, PriceRange priceRange) {
+        requireNonNull(location);
+        requireNonNull(houseTypeFilter);
+        requireNonNull(priceRange);
+
+        Set<T> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+        cells.getOrDefault(location, Collections.emptyMap()).forEach((houseType, cell) -> {
+            if (houseTypeFilter.test(houseType)) {
+                cell.forEachOverlapping(priceRange, clients::add);
+            }
+        });
+        return clients;
+    }
+}
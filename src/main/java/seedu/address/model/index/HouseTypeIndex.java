@@ -0,0 +1,89 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.property.HouseType;
+
+/**
+ * Partitions clients into one bucket per {@code HouseType} of their property.
+ * Since {@code HouseType} is a closed enum, every bucket exists up front.
+ */
+public class HouseTypeIndex<T extends Client> implements ClientIndex<T> {
+
+    private final Function<T, HouseType> houseTypeOf;
+
+    /**
+     * Clients with each house type.
+     */
+    private final Map<HouseType, Set<T>> buckets = new EnumMap<>(HouseType.class);
+
+    /**
+     * The house type each client was indexed under.
+     */
+    private final Map<T, HouseType> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index that reads the house type of a client with {@code houseTypeOf}.
+     */
+    public HouseTypeIndex(Function<T, HouseType> houseTypeOf) {
+        requireNonNull(houseTypeOf);
+        this.houseTypeOf = houseTypeOf;
+        for (HouseType houseType : HouseType.values()) {
+            buckets.put(houseType, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
+    @Override
+    public void add(T client) {
+        requireNonNull(client);
+        HouseType houseType = houseTypeOf.apply(client);
+        keys.put(client, houseType);
+        buckets.get(houseType).add(client);
+    }
+
+    @Override
+    public void remove(T client) {
+        requireNonNull(client);
+        HouseType houseType = keys.remove(client);
+        if (houseType != null) {
+            buckets.get(houseType).remove(client);
+        }
+    }
+
+    @Override
+    public void clear() {
+        buckets.values().forEach(Set::clear);
+        keys.clear();
+    }
+
+    /**
+     * Returns the clients with {@code houseType}, compared by identity.
+     */
+    public Set<T> getClientsOf(HouseType houseType) {
+        requireNonNull(houseType);
+        return Collections.unmodifiableSet(buckets.get(houseType));
+    }
+
+    /**
+     * Returns the clients with any house type accepted by {@code houseTypeFilter}, compared by identity.
+     */
+    public Set<T> getClientsOf(Predicate<HouseType> houseTypeFilter) {
+        requireNonNull(houseTypeFilter);
+        Set<T> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+        buckets.forEach((houseType, bucket) -> {
+            if (houseTypeFilter.test(houseType)) {
+                clients.addAll(bucket);
+            }
+        });
+        return clients;
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of an observable list whose selection can be given directly, as a bitmap of source positions
+ * worked out from the indexes, instead of by testing every element.
+ * The view keeps the sorted source positions of the selected elements. Changes to the source are applied as deltas:
+ * only added or updated elements are tested against the current predicate, removals and reorderings only move
+ * positions around, and listeners are told exactly which elements of the view changed.
+ */
+public class IndexedFilteredList<T> extends TransformationList<T, T> {
+
+    /**
+     * The source positions of the elements in the view, in increasing order, in the first {@code size} entries.
+     */
+    private int[] filtered;
+    private int size;
+
+    /**
+     * Decides whether elements added to the source later are in the view. Null if every element is.
+     */
+    private Predicate<? super T> predicate;
+
+    /**
+     * Creates a view of every element of {@code source}.
+     */
+    public IndexedFilteredList(ObservableList<T> source) {
+        super(source);
+        filtered = new int[source.size()];
+        selectAll();
+    }
+
+    /**
+     * Selects the elements of the source that satisfy {@code predicate}, testing each of them once.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        BitSet positions = new BitSet(getSource().size());
+        for (int i = 0; i < getSource().size(); i++) {
+            if (predicate.test(getSource().get(i))) {
+                positions.set(i);
+            }
+        }
+        setSelection(predicate, positions);
+    }
+
+    /**
+     * Selects the elements of the source at {@code positions}, which are known to be the elements satisfying
+     * {@code predicate}, without testing any of them.
+     * {@code predicate} is kept to decide whether elements added to the source later are in the view.
+     */
+    public void setSelection(Predicate<? super T> predicate, BitSet positions) {
+        requireNonNull(predicate);
+        requireNonNull(positions);
+        List<T> removed = new ArrayList<>(this);
+
+        this.predicate = predicate;
+        ensureCapacity(getSource().size());
+        size = 0;
+        for (int i = positions.nextSetBit(0); i >= 0 && i < getSource().size(); i = positions.nextSetBit(i + 1)) {
+            filtered[size++] = i;
+        }
+        fireReplaceAll(removed);
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return getSource().get(filtered[index]);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position < 0 ? -1 : position;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends T> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    private void selectAll() {
+        predicate = null;
+        ensureCapacity(getSource().size());
+        size = getSource().size();
+        for (int i = 0; i < size; i++) {
+            filtered[i] = i;
+        }
+    }
+
+    private boolean isSelected(T element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    private void fireReplaceAll(List<T> removed) {
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Moves the selected positions to where the source permutation sends them. No element is tested.
+     */
+    private void permute(Change<? extends T> c) {
+        int from = lowerBound(c.getFrom());
+        int to = lowerBound(c.getTo());
+        if (from == to) {
+            return;
+        }
+        int[] moved = new int[to - from];
+        for (int i = from; i < to; i++) {
+            moved[i - from] = c.getPermutation(filtered[i]);
+        }
+        int[] sorted = moved.clone();
+        Arrays.sort(sorted);
+        int[] permutation = new int[to - from];
+        for (int i = 0; i < moved.length; i++) {
+            permutation[i] = from + Arrays.binarySearch(sorted, moved[i]);
+        }
+        System.arraycopy(sorted, 0, filtered, from, sorted.length);
+        nextPermutation(from, to, permutation);
+    }
+
+    /**
+     * Tests the updated elements again, since an update may move them in or out of the view.
+     */
+    private void update(Change<? extends T> c) {
+        for (int position = c.getFrom(); position < c.getTo(); position++) {
+            int index = Arrays.binarySearch(filtered, 0, size, position);
+            boolean wasSelected = index >= 0;
+            T element = getSource().get(position);
+            if (wasSelected && isSelected(element)) {
+                nextUpdate(index);
+            } else if (wasSelected) {
+                nextRemove(index, element);
+                System.arraycopy(filtered, index + 1, filtered, index, size - index - 1);
+                size--;
+            } else if (isSelected(element)) {
+                int insertAt = -index - 1;
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, insertAt, filtered, insertAt + 1, size - insertAt);
+                filtered[insertAt] = position;
+                size++;
+                nextAdd(insertAt, insertAt + 1);
+            }
+        }
+    }
+
+    /**
+     * Drops the removed elements from the view, tests only the added ones, and shifts the positions after them.
+     */
+    private void addRemove(Change<? extends T> c) {
+        int from = c.getFrom();
+        int removedSize = c.getRemovedSize();
+        int addedSize = c.getAddedSize();
+        int start = lowerBound(from);
+        int end = lowerBound(from + removedSize);
+
+        List<T> removed = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removed.add(c.getRemoved().get(filtered[i] - from));
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int position = from; position < from + addedSize; position++) {
+            if (isSelected(getSource().get(position))) {
+                added[addedCount++] = position;
+            }
+        }
+
+        int tail = size - end;
+        ensureCapacity(start + addedCount + tail);
+        System.arraycopy(filtered, end, filtered, start + addedCount, tail);
+        System.arraycopy(added, 0, filtered, start, addedCount);
+        size = start + addedCount + tail;
+        int shift = addedSize - removedSize;
+        for (int i = start + addedCount; i < size; i++) {
+            filtered[i] += shift;
+        }
+
+        if (!removed.isEmpty()) {
+            nextRemove(start, removed);
+        }
+        if (addedCount > 0) {
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    /**
+     * Returns the first index in the view whose source position is at least {@code position}.
+     */
+    private int lowerBound(int position) {
+        int index = Arrays.binarySearch(filtered, 0, size, position);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (filtered.length < capacity) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 2));
+        }
+    }
+}
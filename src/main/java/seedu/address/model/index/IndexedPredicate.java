@@ -0,0 +1,19 @@
+package seedu.address.model.index;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.client.Client;
+
+/**
+ * A {@code Predicate} over clients that can narrow down its matches using {@code ClientIndexes}.
+ * The model tests only the returned candidates instead of every client in the list.
+ */
+public interface IndexedPredicate<T extends Client> extends Predicate<T> {
+
+    /**
+     * Returns the clients in {@code indexes} that may satisfy this predicate.
+     * Every client left out of the returned set must fail {@link #test(Object)}.
+     */
+    Set<T> getCandidates(ClientIndexes<T> indexes);
+}
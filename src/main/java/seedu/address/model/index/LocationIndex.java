@@ -0,0 +1,100 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.property.Location;
+
+/**
+ * An inverted index from {@code Location} to the clients whose property is at that location.
+ * {@code Location} is already normalised to lower case, so it is used directly as the key.
+ */
+public class LocationIndex<T extends Client> implements ClientIndex<T> {
+
+    private final Function<T, Location> locationOf;
+
+    /**
+     * Clients at each location. A location is removed once it has no clients left.
+     */
+    private final Map<Location, Set<T>> postings = new HashMap<>();
+
+    /**
+     * The location each client was indexed under.
+     */
+    private final Map<T, Location> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index that reads the location of a client with {@code locationOf}.
+     */
+    public LocationIndex(Function<T, Location> locationOf) {
+        requireNonNull(locationOf);
+        this.locationOf = locationOf;
+    }
+
+    @Override
+    public void add(T client) {
+        requireNonNull(client);
+        Location location = locationOf.apply(client);
+        keys.put(client, location);
+        postings.computeIfAbsent(location, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(client);
+    }
+
+    @Override
+    public void remove(T client) {
+        requireNonNull(client);
+        Location location = keys.remove(client);
+        if (location == null) {
+            return;
+        }
+        Set<T> clients = postings.get(location);
+        clients.remove(client);
+        if (clients.isEmpty()) {
+            postings.remove(location);
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        keys.clear();
+    }
+
+    /**
+     * Returns the clients at {@code location}, compared by identity.
+     */
+    public Set<T> getClientsAt(Location location) {
+        requireNonNull(location);
+        return Collections.unmodifiableSet(postings.getOrDefault(location, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the clients at any location accepted by {@code locationFilter}, compared by identity.
+     * The filter is applied once per distinct location rather than once per client.
+     */
+    public Set<T> getClientsAt(Predicate<Location> locationFilter) {
+        requireNonNull(locationFilter);
+        Set<T> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+        postings.forEach((location, clientsAtLocation) -> {
+            if (locationFilter.test(location)) {
+                clients.addAll(clientsAtLocation);
+            }
+        });
+        return clients;
+    }
+
+    /**
+     * Returns the number of distinct locations in the index.
+     */
+    public int getLocationCount() {
+        return postings.size();
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.client.Client;
+
+/**
+ * An inverted index from every three-character substring (trigram) of a client's lower-cased name to the clients
+ * with that substring.
+ * Every trigram of a keyword must appear in any name containing the keyword, so intersecting the clients of those
+ * trigrams narrows a substring search down to a few candidates. Keywords shorter than a trigram cannot be narrowed,
+ * and every client is a candidate for them.
+ */
+public class NameTrigramIndex<T extends Client> implements ClientIndex<T> {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String> nameOf;
+
+    /**
+     * Clients whose name contains each trigram. A trigram is removed once it has no clients left.
+     */
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * The lower-cased name each client was indexed under.
+     */
+    private final Map<T, String> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index that reads the name of a client with {@code nameOf}.
+     */
+    public NameTrigramIndex(Function<T, String> nameOf) {
+        requireNonNull(nameOf);
+        this.nameOf = nameOf;
+    }
+
+    @Override
+    public void add(T client) {
+        requireNonNull(client);
+        String name = nameOf.apply(client).toLowerCase();
+        keys.put(client, name);
+        for (String gram : getGrams(name)) {
+            postings.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(client);
+        }
+    }
+
+    @Override
+    public void remove(T client) {
+        requireNonNull(client);
+        String name = keys.remove(client);
+        if (name == null) {
+            return;
+        }
+        for (String gram : getGrams(name)) {
+            Set<T> clients = postings.get(gram);
+            clients.remove(client);
+            if (clients.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        keys.clear();
+    }
+
+    /**
+     * Returns the clients whose name may contain {@code keyword}, ignoring case, compared by identity.
+     * Every client whose name contains the keyword is returned, along with a few that only share its trigrams.
+     */
+    public Set<T> getClientsContaining(String keyword) {
+        requireNonNull(keyword);
+        String text = keyword.trim().toLowerCase();
+        if (text.length() < GRAM_LENGTH) {
+            return Collections.unmodifiableSet(keys.keySet());
+        }
+
+        List<Set<T>> clientsPerGram = new ArrayList<>();
+        for (String gram : getGrams(text)) {
+            Set<T> clients = postings.get(gram);
+            if (clients == null) {
+                return Collections.emptySet();
+            }
+            clientsPerGram.add(clients);
+        }
+
+        // start from the rarest trigram so that the intersection stays small
+        clientsPerGram.sort(Comparator.comparingInt(Set::size));
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(clientsPerGram.get(0));
+        for (int i = 1; i < clientsPerGram.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(clientsPerGram.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of distinct trigrams in the index.
+     */
+    public int getGramCount() {
+        return postings.size();
+    }
+
+    private static Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
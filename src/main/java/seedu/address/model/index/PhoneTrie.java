@@ -0,0 +1,221 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.client.Client;
+
+/**
+ * Indexes clients by the digits of their phone number in two digit tries.
+ * The prefix trie holds each whole number, so a prefix query or an exact lookup walks one node per digit.
+ * The suffix trie holds every suffix of each number, so a number containing a keyword has a suffix starting with it,
+ * and a substring query is a prefix query on the suffix trie rather than a scan over every number.
+ * Phone numbers have no length limit, so each suffix is only indexed up to {@value #MAX_SUFFIX_DEPTH} digits, which
+ * keeps the suffix trie at O(L) nodes for a number of L digits instead of O(L^2). A longer keyword is looked up by
+ * its first {@value #MAX_SUFFIX_DEPTH} digits, and the few numbers found are then checked in full.
+ */
+public class PhoneTrie<T extends Client> implements ClientIndex<T> {
+
+    /**
+     * The most digits of a suffix that the suffix trie holds, which covers any phone number in the international
+     * format in full.
+     */
+    public static final int MAX_SUFFIX_DEPTH = 16;
+
+    private final Function<T, String> phoneOf;
+    private final Node<T> prefixRoot = new Node<>();
+    private final Node<T> suffixRoot = new Node<>();
+
+    /**
+     * The phone number each client was indexed under.
+     */
+    private final Map<T, String> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index that reads the phone number of a client, which holds only digits, with {@code phoneOf}.
+     */
+    public PhoneTrie(Function<T, String> phoneOf) {
+        requireNonNull(phoneOf);
+        this.phoneOf = phoneOf;
+    }
+
+    @Override
+    public void add(T client) {
+        requireNonNull(client);
+        String phone = phoneOf.apply(client);
+        keys.put(client, phone);
+        prefixRoot.insert(phone, 0, phone.length(), client);
+        for (int start = 0; start < phone.length(); start++) {
+            suffixRoot.insert(phone, start, suffixEnd(phone, start), client);
+        }
+    }
+
+    @Override
+    public void remove(T client) {
+        requireNonNull(client);
+        String phone = keys.remove(client);
+        if (phone == null) {
+            return;
+        }
+        prefixRoot.delete(phone, 0, phone.length(), client);
+        for (int start = 0; start < phone.length(); start++) {
+            suffixRoot.delete(phone, start, suffixEnd(phone, start), client);
+        }
+    }
+
+    /**
+     * Returns where the suffix of {@code phone} from {@code start} ends in the suffix trie.
+     */
+    private static int suffixEnd(String phone, int start) {
+        return Math.min(phone.length(), start + MAX_SUFFIX_DEPTH);
+    }
+
+    @Override
+    public void clear() {
+        prefixRoot.clearChildren();
+        suffixRoot.clearChildren();
+        keys.clear();
+    }
+
+    /**
+     * Returns true if a client with exactly the phone number {@code phone} is in the index.
+     */
+    public boolean contains(String phone) {
+        requireNonNull(phone);
+        Node<T> node = prefixRoot.find(phone);
+        return node != null && node.hasClients();
+    }
+
+    /**
+     * Returns the clients whose phone number starts with {@code prefix}, compared by identity.
+     */
+    public Set<T> getClientsStartingWith(String prefix) {
+        requireNonNull(prefix);
+        return collect(prefixRoot.find(prefix.trim()));
+    }
+
+    /**
+     * Returns the clients whose phone number contains {@code keyword}, compared by identity.
+     */
+    public Set<T> getClientsContaining(String keyword) {
+        requireNonNull(keyword);
+        String trimmed = keyword.trim();
+        if (trimmed.length() <= MAX_SUFFIX_DEPTH) {
+            return collect(suffixRoot.find(trimmed));
+        }
+
+        Set<T> clients = collect(suffixRoot.find(trimmed.substring(0, MAX_SUFFIX_DEPTH)));
+        clients.removeIf(client -> !keys.get(client).contains(trimmed));
+        return clients;
+    }
+
+    /**
+     * Returns the clients at {@code node} and every node below it.
+     */
+    private static <T> Set<T> collect(Node<T> node) {
+        Set<T> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (node == null) {
+            return clients;
+        }
+        Deque<Node<T>> toVisit = new ArrayDeque<>();
+        toVisit.push(node);
+        while (!toVisit.isEmpty()) {
+            Node<T> current = toVisit.pop();
+            if (current.hasClients()) {
+                clients.addAll(current.clients);
+            }
+            for (Node<T> child : current.children) {
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return clients;
+    }
+
+    /**
+     * A trie node with one child per digit. The clients at a node are those whose inserted digits end there, and
+     * their set is only created for such nodes. A node is dropped once it has no clients and no children left.
+     */
+    private static class Node<T> {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private final Node<T>[] children = new Node[10];
+        private Set<T> clients;
+        private int childCount;
+
+        boolean hasClients() {
+            return clients != null && !clients.isEmpty();
+        }
+
+        /**
+         * Adds {@code client} at the node reached by following the digits of {@code digits} from {@code start} to
+         * {@code end}.
+         */
+        void insert(String digits, int start, int end, T client) {
+            Node<T> node = this;
+            for (int i = start; i < end; i++) {
+                int digit = digits.charAt(i) - '0';
+                if (node.children[digit] == null) {
+                    node.children[digit] = new Node<>();
+                    node.childCount++;
+                }
+                node = node.children[digit];
+            }
+            if (node.clients == null) {
+                node.clients = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            node.clients.add(client);
+        }
+
+        /**
+         * Removes {@code client} from the node at the digits of {@code digits} from {@code start} to {@code end}, and
+         * drops the nodes left empty. Returns true if this node is left empty.
+         */
+        boolean delete(String digits, int start, int end, T client) {
+            if (start == end) {
+                if (clients != null && clients.remove(client) && clients.isEmpty()) {
+                    clients = null;
+                }
+            } else {
+                int digit = digits.charAt(start) - '0';
+                Node<T> child = children[digit];
+                if (child != null && child.delete(digits, start + 1, end, client)) {
+                    children[digit] = null;
+                    childCount--;
+                }
+            }
+            return !hasClients() && childCount == 0;
+        }
+
+        /**
+         * Returns the node reached by following {@code digits}, or null if there is none or a character is not a
+         * digit.
+         */
+        Node<T> find(String digits) {
+            Node<T> node = this;
+            for (int i = 0; i < digits.length() && node != null; i++) {
+                int digit = digits.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return null;
+                }
+                node = node.children[digit];
+            }
+            return node;
+        }
+
+        void clearChildren() {
+            for (int i = 0; i < children.length; i++) {
+                children[i] = null;
+            }
+            childCount = 0;
+            clients = null;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.model.index;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.model.property.PriceRange;
+
+/**
+ * An interval tree over closed price ranges, storing values by identity.
+ * It is a treap ordered by {@code (lower, upper)} in which every node also records the largest upper bound in its
+ * subtree, so subtrees that end below a query can be skipped. Values with the same range share one node.
+ * Adding, removing and finding the k values overlapping a range take expected O(log n) and O(log n + k) time,
+ * where n is the number of distinct ranges.
+ */
+class PriceIntervalTree<T> {
+
+    private final Random random = new Random();
+    private Node<T> root;
+
+    /**
+     * Adds {@code value} under {@code range}.
+     */
+    void add(PriceRange range, T value) {
+        root = insert(root, range.getLower(), range.getUpper(), value);
+    }
+
+    /**
+     * Removes {@code value} from under {@code range}. Does nothing if it is not there.
+     */
+    void remove(PriceRange range, T value) {
+        root = delete(root, range.getLower(), range.getUpper(), value);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Passes every value whose range shares at least one price with {@code range} to {@code action}.
+     * Closed ranges {@code [a, b]} and {@code [c, d]} overlap exactly when {@code a <= d} and {@code c <= b}.
+     */
+    void forEachOverlapping(PriceRange range, Consumer<? super T> action) {
+        visitOverlapping(root, range.getLower(), range.getUpper(), action);
+    }
+
+    private void visitOverlapping(Node<T> node, int lower, int upper, Consumer<? super T> action) {
+        if (node == null || node.maxUpper < lower) {
+            return;
+        }
+        visitOverlapping(node.left, lower, upper, action);
+        if (node.lower > upper) {
+            // the right subtree only has ranges starting even later
+            return;
+        }
+        if (node.upper >= lower) {
+            node.values.forEach(action);
+        }
+        visitOverlapping(node.right, lower, upper, action);
+    }
+
+    private Node<T> insert(Node<T> node, int lower, int upper, T value) {
+        if (node == null) {
+            Node<T> created = new Node<>(lower, upper, random.nextInt());
+            created.values.add(value);
+            return created;
+        }
+
+        int comparison = node.compareTo(lower, upper);
+        if (comparison == 0) {
+            node.values.add(value);
+            return node;
+        }
+        if (comparison < 0) {
+            node.left = insert(node.left, lower, upper, value);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, lower, upper, value);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<T> delete(Node<T> node, int lower, int upper, T value) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = node.compareTo(lower, upper);
+        if (comparison < 0) {
+            node.left = delete(node.left, lower, upper, value);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, lower, upper, value);
+        } else {
+            node.values.remove(value);
+            if (node.values.isEmpty()) {
+                return merge(node.left, node.right);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every range in {@code left} orders before every range in {@code right}.
+     */
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        node.update();
+        pivot.right = node;
+        pivot.update();
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        node.update();
+        pivot.left = node;
+        pivot.update();
+        return pivot;
+    }
+
+    private static class Node<T> {
+        private final int lower;
+        private final int upper;
+        private final int priority;
+        private final Set<T> values = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int maxUpper;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(int lower, int upper, int priority) {
+            this.lower = lower;
+            this.upper = upper;
+            this.priority = priority;
+            this.maxUpper = upper;
+        }
+
+        /**
+         * Returns a negative number if {@code [lower, upper]} orders before this node's range, zero if it is the
+         * same range, and a positive number otherwise.
+         */
+        int compareTo(int lower, int upper) {
+            int comparison = Integer.compare(lower, this.lower);
+            return comparison != 0 ? comparison : Integer.compare(upper, this.upper);
+        }
+
+        void update() {
+            maxUpper = upper;
+            if (left != null) {
+                maxUpper = Math.max(maxUpper, left.maxUpper);
+            }
+            if (right != null) {
+                maxUpper = Math.max(maxUpper, right.maxUpper);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.property.PriceRange;
+
+/**
+ * Indexes clients by the {@code PriceRange} of their property, to find the clients whose range overlaps a given one
+ * without testing every client.
+ */
+public class PriceRangeIndex<T extends Client> implements ClientIndex<T> {
+
+    private final Function<T, PriceRange> priceRangeOf;
+    private final Predicate<T> isIndexed;
+    private final PriceIntervalTree<T> tree = new PriceIntervalTree<>();
+
+    /**
+     * The price range each client was indexed under.
+     */
+    private final Map<T, PriceRange> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index that reads the price range of a client with {@code priceRangeOf}.
+     */
+    public PriceRangeIndex(Function<T, PriceRange> priceRangeOf) {
+        this(priceRangeOf, client -> true);
+    }
+
+    /**
+     * Creates an empty index that reads the price range of a client with {@code priceRangeOf}, and leaves out the
+     * clients that fail {@code isIndexed}.
+     */
+    public PriceRangeIndex(Function<T, PriceRange> priceRangeOf, Predicate<T> isIndexed) {
+        requireNonNull(priceRangeOf);
+        requireNonNull(isIndexed);
+        this.priceRangeOf = priceRangeOf;
+        this.isIndexed = isIndexed;
+    }
+
+    @Override
+    public void add(T client) {
+        requireNonNull(client);
+        if (!isIndexed.test(client)) {
+            return;
+        }
+        PriceRange priceRange = priceRangeOf.apply(client);
+        keys.put(client, priceRange);
+        tree.add(priceRange, client);
+    }
+
+    @Override
+    public void remove(T client) {
+        requireNonNull(client);
+        PriceRange priceRange = keys.remove(client);
+        if (priceRange != null) {
+            tree.remove(priceRange, client);
+        }
+    }
+
+    @Override
+    public void clear() {
+        tree.clear();
+        keys.clear();
+    }
+
+    /**
+     * Returns the clients whose price range shares at least one price with {@code priceRange}, compared by identity.
+     * Both ranges are treated as closed.
+     */
+    public Set<T> getClientsOverlapping(PriceRange priceRange) {
+        requireNonNull(priceRange);
+        Set<T> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+        forEachClientOverlapping(priceRange, clients::add);
+        return clients;
+    }
+
+    /**
+     * Passes each client whose price range shares at least one price with {@code priceRange} to {@code action},
+     * once each, without collecting them first.
+     */
+    public void forEachClientOverlapping(PriceRange priceRange, Consumer<? super T> action) {
+        requireNonNull(priceRange);
+        requireNonNull(action);
+        tree.forEachOverlapping(priceRange, action);
+    }
+}
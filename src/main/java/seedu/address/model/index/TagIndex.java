@@ -0,0 +1,168 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.client.Client;
+
+/**
+ * Indexes clients by their tags, ignoring case.
+ * Each distinct tag is interned into a dictionary of integer ids while at least one client has it, and each client is
+ * given a slot number that stays the same while it is indexed. The clients with a tag are kept as a bitmap of their
+ * slots, so a query for several tags, or for every tag with a given prefix, is an OR of bitmaps.
+ */
+public class TagIndex<T extends Client> implements ClientIndex<T> {
+
+    /**
+     * Lower-cased tag names and their ids, sorted so that the tags with a prefix are next to each other.
+     */
+    private final TreeMap<String, Integer> tagIds = new TreeMap<>();
+
+    /**
+     * The name and the slots of the clients with each tag, by tag id, or null if the id is free.
+     * A tag's id is freed when its last client is removed, and is given to the next new tag.
+     */
+    private final List<String> tagNames = new ArrayList<>();
+    private final List<BitSet> postings = new ArrayList<>();
+    private final Deque<Integer> freeTagIds = new ArrayDeque<>();
+
+    /**
+     * The client in each slot, or null if the slot is free.
+     */
+    private final List<T> clientsBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    /**
+     * The slot and tag ids each client was indexed under.
+     */
+    private final Map<T, Entry> entries = new IdentityHashMap<>();
+
+    @Override
+    public void add(T client) {
+        requireNonNull(client);
+        int slot = freeSlots.isEmpty() ? clientsBySlot.size() : freeSlots.pop();
+        if (slot == clientsBySlot.size()) {
+            clientsBySlot.add(client);
+        } else {
+            clientsBySlot.set(slot, client);
+        }
+
+        int[] clientTagIds = client.getTagKeys().stream()
+                .mapToInt(this::intern)
+                .distinct()
+                .toArray();
+        for (int tagId : clientTagIds) {
+            postings.get(tagId).set(slot);
+        }
+        entries.put(client, new Entry(slot, clientTagIds));
+    }
+
+    @Override
+    public void remove(T client) {
+        requireNonNull(client);
+        Entry entry = entries.remove(client);
+        if (entry == null) {
+            return;
+        }
+        for (int tagId : entry.tagIds) {
+            BitSet posting = postings.get(tagId);
+            posting.clear(entry.slot);
+            if (posting.isEmpty()) {
+                release(tagId);
+            }
+        }
+        clientsBySlot.set(entry.slot, null);
+        freeSlots.push(entry.slot);
+    }
+
+    @Override
+    public void clear() {
+        tagIds.clear();
+        tagNames.clear();
+        postings.clear();
+        freeTagIds.clear();
+        clientsBySlot.clear();
+        freeSlots.clear();
+        entries.clear();
+    }
+
+    /**
+     * Returns the clients with a tag named exactly one of {@code tagNames}, or with a tag starting with one of
+     * {@code prefixes}, ignoring case, compared by identity.
+     * The bitmaps of all the tags found are combined before any client is looked up.
+     */
+    public Set<T> getClientsTaggedWithAny(Collection<String> tagNames, Collection<String> prefixes) {
+        requireNonNull(tagNames);
+        requireNonNull(prefixes);
+        BitSet slots = new BitSet();
+        for (String tagName : tagNames) {
+            Integer tagId = tagIds.get(tagName.toLowerCase());
+            if (tagId != null) {
+                slots.or(postings.get(tagId));
+            }
+        }
+        for (String prefix : prefixes) {
+            String lowerCasePrefix = prefix.toLowerCase();
+            tagIds.subMap(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, false)
+                    .values().forEach(tagId -> slots.or(postings.get(tagId)));
+        }
+
+        Set<T> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            clients.add(clientsBySlot.get(slot));
+        }
+        return clients;
+    }
+
+    /**
+     * Returns the number of distinct tags interned, which are the tags at least one indexed client has.
+     */
+    public int getTagCount() {
+        return tagIds.size();
+    }
+
+    private int intern(String tagName) {
+        return tagIds.computeIfAbsent(tagName, unused -> {
+            if (freeTagIds.isEmpty()) {
+                tagNames.add(tagName);
+                postings.add(new BitSet());
+                return postings.size() - 1;
+            }
+            int tagId = freeTagIds.pop();
+            tagNames.set(tagId, tagName);
+            postings.set(tagId, new BitSet());
+            return tagId;
+        });
+    }
+
+    private void release(int tagId) {
+        tagIds.remove(tagNames.get(tagId));
+        tagNames.set(tagId, null);
+        postings.set(tagId, null);
+        freeTagIds.push(tagId);
+    }
+
+    /**
+     * The slot of an indexed client and the ids of its tags.
+     */
+    private static class Entry {
+        private final int slot;
+        private final int[] tagIds;
+
+        Entry(int slot, int[] tagIds) {
+            this.slot = slot;
+            this.tagIds = tagIds;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.seller.Seller;
+
+/**
+ * An immutable list of buyer-seller matches.
+ * Each match is packed into one {@code long} holding the positions of the buyer and the seller in the lists the
+ * matches were computed from, so a large result costs eight bytes per match.
+ * Matches are ordered by buyer position, then by seller position.
+ */
+public class MatchPairList {
+
+    private static final long POSITION_MASK = 0xFFFFFFFFL;
+
+    private final List<Buyer> buyers;
+    private final List<Seller> sellers;
+    private final long[] pairs;
+
+    /**
+     * Creates a list of the matches in {@code pairs}, which must be sorted and packed with {@link #pack(int, int)}.
+     * {@code buyers} and {@code sellers} must not be changed afterwards.
+     */
+    MatchPairList(List<Buyer> buyers, List<Seller> sellers, long[] pairs) {
+        this.buyers = buyers;
+        this.sellers = sellers;
+        this.pairs = pairs;
+    }
+
+    /**
+     * Packs the positions of a buyer and a seller into one value that sorts by buyer first.
+     */
+    static long pack(int buyerPosition, int sellerPosition) {
+        return ((long) buyerPosition << 32) | sellerPosition;
+    }
+
+    /**
+     * Returns the number of matches.
+     */
+    public int size() {
+        return pairs.length;
+    }
+
+    public boolean isEmpty() {
+        return pairs.length == 0;
+    }
+
+    /**
+     * Returns the buyer of the match at {@code index}.
+     */
+    public Buyer getBuyer(int index) {
+        return buyers.get((int) (pairs[index] >>> 32));
+    }
+
+    /**
+     * Returns the seller of the match at {@code index}.
+     */
+    public Seller getSeller(int index) {
+        return sellers.get((int) (pairs[index] & POSITION_MASK));
+    }
+
+    /**
+     * Returns the number of pages needed to show every match, {@code pageSize} matches at a time.
+     */
+    public int getPageCount(int pageSize) {
+        return (pairs.length + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Writes every match to {@code out} as comma-separated values, one match per line, without building the whole
+     * text in memory first.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        requireNonNull(out);
+        out.append("buyer,buyer phone,seller,seller phone\n");
+        for (int i = 0; i < pairs.length; i++) {
+            Buyer buyer = getBuyer(i);
+            Seller seller = getSeller(i);
+            out.append(buyer.getName().fullName).append(',').append(buyer.getPhone().value).append(',')
+                    .append(seller.getName().fullName).append(',').append(seller.getPhone().value).append('\n');
+        }
+    }
+}
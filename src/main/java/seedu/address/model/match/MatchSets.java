@@ -0,0 +1,161 @@
+package seedu.address.model.match;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.buyer.AllFieldsMatchSellerPredicate;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.property.NullPropertyToBuy;
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.seller.AllFieldsMatchBuyerPredicate;
+import seedu.address.model.seller.Seller;
+
+/**
+ * Keeps the sellers matching every buyer, by the rules of {@code AllFieldsMatchBuyerPredicate}, up to date as the
+ * buyer and seller lists change.
+ * A change only re-evaluates the pairs involving the clients that were added or removed: the matches of an added
+ * client are looked up in the other side's indexes, and the matches of a removed client are dropped from both sides.
+ * Reorderings such as sorts leave the matches unchanged.
+ */
+public class MatchSets {
+
+    private final ClientIndexes<Buyer> buyerIndexes;
+    private final ClientIndexes<Seller> sellerIndexes;
+
+    /**
+     * The sellers matching each buyer in the list, and the reverse, compared by identity.
+     * Every buyer has an entry, which is empty if it has no matches. Sellers without matches may have no entry.
+     */
+    private final Map<Buyer, Set<Seller>> sellersByBuyer = new IdentityHashMap<>();
+    private final Map<Seller, Set<Buyer>> buyersBySeller = new IdentityHashMap<>();
+
+    private final Map<Buyer, ReadOnlyIntegerWrapper> matchCounts = new IdentityHashMap<>();
+
+    /**
+     * Creates the match sets of {@code buyers} and {@code sellers}, and follows later changes to both lists.
+     * {@code buyerIndexes} and {@code sellerIndexes} must index the clients in the lists.
+     */
+    public MatchSets(ObservableList<Buyer> buyers, ClientIndexes<Buyer> buyerIndexes,
+                     ObservableList<Seller> sellers, ClientIndexes<Seller> sellerIndexes) {
+        requireAllNonNull(buyers, buyerIndexes, sellers, sellerIndexes);
+        this.buyerIndexes = buyerIndexes;
+        this.sellerIndexes = sellerIndexes;
+
+        buyers.forEach(this::addBuyer);
+        buyers.addListener((ListChangeListener<Buyer>) change -> {
+            while (change.next()) {
+                if (!change.wasPermutated()) {
+                    change.getRemoved().forEach(this::removeBuyer);
+                    change.getAddedSubList().forEach(this::addBuyer);
+                }
+            }
+        });
+        sellers.addListener((ListChangeListener<Seller>) change -> {
+            while (change.next()) {
+                if (!change.wasPermutated()) {
+                    change.getRemoved().forEach(this::removeSeller);
+                    change.getAddedSubList().forEach(this::addSeller);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns an unmodifiable view of the sellers matching {@code buyer}, compared by identity.
+     * The set is empty if {@code buyer} is not in the buyer list.
+     */
+    public Set<Seller> getMatches(Buyer buyer) {
+        Set<Seller> sellers = sellersByBuyer.get(buyer);
+        return sellers == null ? Collections.emptySet() : Collections.unmodifiableSet(sellers);
+    }
+
+    /**
+     * Returns the number of sellers matching {@code buyer}, which is updated as the lists change.
+     * The count is always zero if {@code buyer} is not in the buyer list.
+     */
+    public ReadOnlyIntegerProperty getMatchCount(Buyer buyer) {
+        ReadOnlyIntegerWrapper matchCount = matchCounts.get(buyer);
+        return matchCount == null ? new ReadOnlyIntegerWrapper().getReadOnlyProperty()
+                                  : matchCount.getReadOnlyProperty();
+    }
+
+    private void addBuyer(Buyer buyer) {
+        Set<Seller> sellers = Collections.newSetFromMap(new IdentityHashMap<>());
+        sellersByBuyer.put(buyer, sellers);
+        matchCounts.put(buyer, new ReadOnlyIntegerWrapper());
+        if (buyer.getPropertyToBuy() instanceof NullPropertyToBuy) {
+            return;
+        }
+
+        AllFieldsMatchBuyerPredicate predicate = new AllFieldsMatchBuyerPredicate(buyer);
+        for (Seller seller : predicate.getCandidates(sellerIndexes)) {
+            if (predicate.test(seller)) {
+                sellers.add(seller);
+                buyersBySeller.computeIfAbsent(seller, unused -> newBuyerSet()).add(buyer);
+            }
+        }
+        matchCounts.get(buyer).set(sellers.size());
+    }
+
+    private void removeBuyer(Buyer buyer) {
+        Set<Seller> sellers = sellersByBuyer.remove(buyer);
+        matchCounts.remove(buyer);
+        if (sellers == null) {
+            return;
+        }
+        for (Seller seller : sellers) {
+            Set<Buyer> buyers = buyersBySeller.get(seller);
+            buyers.remove(buyer);
+            if (buyers.isEmpty()) {
+                buyersBySeller.remove(seller);
+            }
+        }
+    }
+
+    private void addSeller(Seller seller) {
+        if (seller.getPropertyToSell() instanceof NullPropertyToSell) {
+            return;
+        }
+
+        AllFieldsMatchSellerPredicate predicate = new AllFieldsMatchSellerPredicate(seller);
+        Set<Buyer> buyers = newBuyerSet();
+        for (Buyer buyer : predicate.getCandidates(buyerIndexes)) {
+            if (predicate.test(buyer) && sellersByBuyer.containsKey(buyer)) {
+                buyers.add(buyer);
+                sellersByBuyer.get(buyer).add(seller);
+                updateMatchCount(buyer);
+            }
+        }
+        if (!buyers.isEmpty()) {
+            buyersBySeller.put(seller, buyers);
+        }
+    }
+
+    private void removeSeller(Seller seller) {
+        Set<Buyer> buyers = buyersBySeller.remove(seller);
+        if (buyers == null) {
+            return;
+        }
+        for (Buyer buyer : buyers) {
+            sellersByBuyer.get(buyer).remove(seller);
+            updateMatchCount(buyer);
+        }
+    }
+
+    private void updateMatchCount(Buyer buyer) {
+        matchCounts.get(buyer).set(sellersByBuyer.get(buyer).size());
+    }
+
+    private static Set<Buyer> newBuyerSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
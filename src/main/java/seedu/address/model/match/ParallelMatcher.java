@@ -0,0 +1,116 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Tests a predicate against many elements, splitting large inputs into chunks that are tested on a
+ * {@code ForkJoinPool}. The result is the same as testing the elements one by one, in the same order.
+ * Predicates passed in must be safe to call from several threads at once, which holds for the predicates in the
+ * model as they only read immutable client fields.
+ */
+public class ParallelMatcher {
+
+    /**
+     * Fewest elements a single task tests, so that tasks are not too small to be worth scheduling.
+     */
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    /**
+     * Number of chunks per worker thread, so that busy threads can steal work from each other.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelMatcher() {} // prevents instantiation
+
+    /**
+     * Returns the elements of {@code elements} that satisfy {@code predicate}, in iteration order.
+     * The elements are tested in parallel on the common {@code ForkJoinPool} if there are at least {@code threshold}
+     * of them, and one by one on the calling thread otherwise.
+     */
+    public static <T> List<T> filter(Collection<? extends T> elements, Predicate<? super T> predicate,
+                                     int threshold) {
+        return filter(elements, predicate, threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the elements of {@code elements} that satisfy {@code predicate}, in iteration order, testing them in
+     * parallel on {@code pool} if there are at least {@code threshold} of them.
+     */
+    public static <T> List<T> filter(Collection<? extends T> elements, Predicate<? super T> predicate,
+                                     int threshold, ForkJoinPool pool) {
+        requireNonNull(elements);
+        requireNonNull(predicate);
+        requireNonNull(pool);
+        checkArgument(threshold > 0, "Threshold must be positive");
+
+        if (elements.size() < threshold) {
+            List<T> matches = new ArrayList<>();
+            for (T element : elements) {
+                if (predicate.test(element)) {
+                    matches.add(element);
+                }
+            }
+            return matches;
+        }
+
+        List<? extends T> elementList = elements instanceof List ? (List<? extends T>) elements
+                                                                 : new ArrayList<>(elements);
+        boolean[] isMatch = new boolean[elementList.size()];
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, elementList.size() / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        pool.invoke(new TestChunk<>(elementList, predicate, isMatch, 0, elementList.size(), chunkSize));
+
+        List<T> matches = new ArrayList<>();
+        for (int i = 0; i < isMatch.length; i++) {
+            if (isMatch[i]) {
+                matches.add(elementList.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Tests the elements from {@code from} (inclusive) to {@code to} (exclusive), splitting the range in half until
+     * it is at most one chunk long. Each task writes only its own part of {@code isMatch}.
+     */
+    private static class TestChunk<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends T> elements;
+        private final Predicate<? super T> predicate;
+        private final boolean[] isMatch;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        TestChunk(List<? extends T> elements, Predicate<? super T> predicate, boolean[] isMatch,
+                  int from, int to, int chunkSize) {
+            this.elements = elements;
+            this.predicate = predicate;
+            this.isMatch = isMatch;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    isMatch[i] = predicate.test(elements.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TestChunk<>(elements, predicate, isMatch, from, middle, chunkSize),
+                    new TestChunk<>(elements, predicate, isMatch, middle, to, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.House;
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NullPropertyToBuy;
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.seller.Seller;
+
+/**
+ * Computes every buyer-seller match in one pass, with the same rules as {@code AllFieldsMatchBuyerPredicate}.
+ * Both sides are partitioned by {@code Location} and {@code HouseType}, and each pair of partitions that can match is
+ * joined by sweeping over the price ranges of both sides in order of their lower bound. A buyer with an unspecified
+ * house type is joined with every seller partition at its location.
+ * This takes O(n log n + k) time for n clients and k matches, instead of testing every buyer against every seller.
+ */
+public class SweepLineMatcher {
+
+    private static final Comparator<Entry> BY_LOWER = Comparator.comparingInt(entry -> entry.lower);
+    private static final Comparator<Entry> BY_UPPER = Comparator.comparingInt(entry -> entry.upper);
+
+    private SweepLineMatcher() {} // prevents instantiation
+
+    /**
+     * Returns every match between {@code buyers} and {@code sellers}.
+     * Clients without a property are never matched.
+     */
+    public static MatchPairList match(List<Buyer> buyers, List<Seller> sellers) {
+        requireNonNull(buyers);
+        requireNonNull(sellers);
+        List<Buyer> buyerSnapshot = List.copyOf(buyers);
+        List<Seller> sellerSnapshot = List.copyOf(sellers);
+
+        Map<Location, Map<HouseType, List<Entry>>> buyerPartitions = new HashMap<>();
+        for (int i = 0; i < buyerSnapshot.size(); i++) {
+            if (!(buyerSnapshot.get(i).getPropertyToBuy() instanceof NullPropertyToBuy)) {
+                addEntry(buyerPartitions, buyerSnapshot.get(i).getPropertyToBuy().getHouse(),
+                        buyerSnapshot.get(i).getPropertyToBuy().getPriceRange(), i);
+            }
+        }
+        Map<Location, Map<HouseType, List<Entry>>> sellerPartitions = new HashMap<>();
+        for (int i = 0; i < sellerSnapshot.size(); i++) {
+            if (!(sellerSnapshot.get(i).getPropertyToSell() instanceof NullPropertyToSell)) {
+                addEntry(sellerPartitions, sellerSnapshot.get(i).getPropertyToSell().getHouse(),
+                        sellerSnapshot.get(i).getPropertyToSell().getPriceRange(), i);
+            }
+        }
+
+        PairBuffer pairs = new PairBuffer();
+        buyerPartitions.forEach((location, buyersAtLocation) -> {
+            Map<HouseType, List<Entry>> sellersAtLocation = sellerPartitions.get(location);
+            if (sellersAtLocation == null) {
+                return;
+            }
+            buyersAtLocation.forEach((houseType, buyerEntries) -> {
+                List<Entry> sellerEntries = houseType.equals(HouseType.UNSPECIFIED)
+                        ? mergeAll(sellersAtLocation)
+                        : sellersAtLocation.get(houseType);
+                if (sellerEntries != null) {
+                    sweep(sort(buyerEntries), sort(sellerEntries), pairs);
+                }
+            });
+        });
+
+        return new MatchPairList(buyerSnapshot, sellerSnapshot, pairs.toSortedArray());
+    }
+
+    private static void addEntry(Map<Location, Map<HouseType, List<Entry>>> partitions, House house,
+                                 PriceRange priceRange, int position) {
+        partitions.computeIfAbsent(house.getLocation(), unused -> new EnumMap<>(HouseType.class))
+                .computeIfAbsent(house.getHouseType(), unused -> new ArrayList<>())
+                .add(new Entry(position, priceRange));
+    }
+
+    private static List<Entry> mergeAll(Map<HouseType, List<Entry>> partitions) {
+        List<Entry> merged = new ArrayList<>();
+        partitions.values().forEach(merged::addAll);
+        return merged;
+    }
+
+    private static List<Entry> sort(List<Entry> entries) {
+        entries.sort(BY_LOWER);
+        return entries;
+    }
+
+    /**
+     * Reports every overlapping buyer and seller range to {@code pairs}.
+     * Ranges are visited in order of their lower bound, and each side keeps the ranges that are still open.
+     * When a range is visited, the open ranges of the other side that ended before it are dropped, and every one
+     * still open overlaps it. Each overlapping pair is reported once, when its later-starting range is visited.
+     */
+    private static void sweep(List<Entry> buyerEntries, List<Entry> sellerEntries, PairBuffer pairs) {
+        PriorityQueue<Entry> openBuyers = new PriorityQueue<>(BY_UPPER);
+        PriorityQueue<Entry> openSellers = new PriorityQueue<>(BY_UPPER);
+        int nextBuyer = 0;
+        int nextSeller = 0;
+
+        while (nextBuyer < buyerEntries.size() || nextSeller < sellerEntries.size()) {
+            boolean isBuyerNext = nextSeller >= sellerEntries.size()
+                    || (nextBuyer < buyerEntries.size()
+                            && buyerEntries.get(nextBuyer).lower <= sellerEntries.get(nextSeller).lower);
+            if (isBuyerNext) {
+                Entry buyer = buyerEntries.get(nextBuyer++);
+                closeBefore(openSellers, buyer.lower);
+                for (Entry seller : openSellers) {
+                    pairs.add(MatchPairList.pack(buyer.position, seller.position));
+                }
+                openBuyers.add(buyer);
+            } else {
+                Entry seller = sellerEntries.get(nextSeller++);
+                closeBefore(openBuyers, seller.lower);
+                for (Entry buyer : openBuyers) {
+                    pairs.add(MatchPairList.pack(buyer.position, seller.position));
+                }
+                openSellers.add(seller);
+            }
+        }
+    }
+
+    private static void closeBefore(PriorityQueue<Entry> open, int price) {
+        while (!open.isEmpty() && open.peek().upper < price) {
+            open.poll();
+        }
+    }
+
+    /**
+     * The price range of one client and its position in the input list.
+     */
+    private static class Entry {
+        private final int position;
+        private final int lower;
+        private final int upper;
+
+        Entry(int position, PriceRange priceRange) {
+            this.position = position;
+            this.lower = priceRange.getLower();
+            this.upper = priceRange.getUpper();
+        }
+    }
+
+    /**
+     * A growable array of packed pairs.
+     */
+    private static class PairBuffer {
+        private long[] pairs = new long[16];
+        private int size;
+
+        void add(long pair) {
+            if (size == pairs.length) {
+                pairs = Arrays.copyOf(pairs, size * 2);
+            }
+            pairs[size++] = pair;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(pairs, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
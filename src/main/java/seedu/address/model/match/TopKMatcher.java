@@ -0,0 +1,141 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.House;
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.seller.Seller;
+
+/**
+ * Ranks sellers by how well they suit a buyer and keeps only the best few.
+ * A seller scores {@value #LOCATION_SCORE} for being at the buyer's location, {@value #EXACT_HOUSE_TYPE_SCORE} for
+ * having the buyer's house type, or {@value #UNSPECIFIED_HOUSE_TYPE_SCORE} if the buyer did not specify one, plus the
+ * fraction of the buyer's price range that the seller's range covers. With these weights a seller matching every
+ * field always scores higher than one that does not.
+ * Only the best K sellers are held in a bounded heap while ranking, so the other sellers are never sorted.
+ */
+public class TopKMatcher {
+
+    public static final double LOCATION_SCORE = 2;
+    public static final double EXACT_HOUSE_TYPE_SCORE = 1;
+    public static final double UNSPECIFIED_HOUSE_TYPE_SCORE = 0.5;
+
+    /**
+     * Orders the best match first, breaking ties by seller name so that the ranking does not depend on the order
+     * of the candidates.
+     */
+    private static final Comparator<ScoredMatch> BEST_FIRST = Comparator
+            .comparingDouble(ScoredMatch::getScore).reversed()
+            .thenComparing(match -> match.getSeller().getName().fullName)
+            .thenComparing(match -> match.getSeller().getPhone().value);
+
+    private TopKMatcher() {} // prevents instantiation
+
+    /**
+     * Returns the {@code k} sellers among {@code candidates} that best suit {@code buyer}, best first.
+     * Sellers without a property are skipped. Fewer than {@code k} sellers are returned if there are not enough
+     * candidates.
+     */
+    public static List<ScoredMatch> getTopMatches(Buyer buyer, Iterable<Seller> candidates, int k) {
+        requireNonNull(candidates);
+        return getTopMatchesAmong(buyer, candidates::forEach, k);
+    }
+
+    /**
+     * Returns the {@code k} sellers passed by {@code forEachCandidate} that best suit {@code buyer}, best first,
+     * like {@link #getTopMatches(Buyer, Iterable, int)}.
+     * Each candidate is scored as it is passed, so only the best {@code k} are ever held, however many there are.
+     */
+    public static List<ScoredMatch> getTopMatchesAmong(Buyer buyer, Consumer<Consumer<Seller>> forEachCandidate,
+            int k) {
+        requireNonNull(buyer);
+        requireNonNull(forEachCandidate);
+        checkArgument(k > 0, "K must be positive");
+
+        // the worst of the best k so far is at the head, ready to be replaced
+        PriorityQueue<ScoredMatch> best = new PriorityQueue<>(BEST_FIRST.reversed());
+        forEachCandidate.accept(seller -> {
+            if (seller.getPropertyToSell() instanceof NullPropertyToSell) {
+                return;
+            }
+            ScoredMatch match = new ScoredMatch(seller, score(buyer, seller));
+            if (best.size() < k) {
+                best.add(match);
+            } else if (BEST_FIRST.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        });
+
+        List<ScoredMatch> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    /**
+     * Returns how well the property of {@code seller} suits the property {@code buyer} wants.
+     */
+    public static double score(Buyer buyer, Seller seller) {
+        requireNonNull(buyer);
+        requireNonNull(seller);
+        House houseToBuy = buyer.getPropertyToBuy().getHouse();
+        House houseToSell = seller.getPropertyToSell().getHouse();
+
+        double score = 0;
+        if (houseToBuy.getLocation().equals(houseToSell.getLocation())) {
+            score += LOCATION_SCORE;
+        }
+        if (houseToBuy.getHouseType().equals(houseToSell.getHouseType())) {
+            score += EXACT_HOUSE_TYPE_SCORE;
+        } else if (houseToBuy.getHouseType().equals(HouseType.UNSPECIFIED)) {
+            score += UNSPECIFIED_HOUSE_TYPE_SCORE;
+        }
+        return score + getOverlapFraction(buyer.getPropertyToBuy().getPriceRange(),
+                seller.getPropertyToSell().getPriceRange());
+    }
+
+    /**
+     * Returns the fraction of the prices in {@code buyRange} that are also in {@code sellRange}.
+     */
+    private static double getOverlapFraction(PriceRange buyRange, PriceRange sellRange) {
+        long overlap = (long) Math.min(buyRange.getUpper(), sellRange.getUpper())
+                - Math.max(buyRange.getLower(), sellRange.getLower()) + 1;
+        long buyRangeSize = (long) buyRange.getUpper() - buyRange.getLower() + 1;
+        return Math.max(0, overlap) / (double) buyRangeSize;
+    }
+
+    /**
+     * A seller and how well it suits the buyer it was ranked for.
+     */
+    public static class ScoredMatch {
+        private final Seller seller;
+        private final double score;
+
+        ScoredMatch(Seller seller, double score) {
+            this.seller = seller;
+            this.score = score;
+        }
+
+        public Seller getSeller() {
+            return seller;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
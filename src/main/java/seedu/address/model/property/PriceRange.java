@@ -130,8 +130,8 @@ public class PriceRange {
         // [100, 200] . [40, 99] should NOT match.
         // [50, 60], [10, 100] should match.
         // [10,100], [20, 40] should match, and vice versa.
-        return isWithinRange(buyRange.getLower(), sellRange) || isWithinRange(buyRange.getUpper(), sellRange)
-            || isWithinRange(sellRange.getLower(), buyRange) || isWithinRange(sellRange.getLower(), buyRange);
+        // Two closed ranges overlap exactly when each one starts no later than the other ends.
+        return buyRange.getLower() <= sellRange.getUpper() && sellRange.getLower() <= buyRange.getUpper();
     }
 
     @Override
@@ -32,23 +32,6 @@ public class PropertyToSell {
         this.address = address;
     }
 
-    /**
-     * Update the PropertyToSell information by calling this method, this method will be used
-     * in {@code EditSellerCommand} class.
-     * @param houseType
-     * @param location
-     * @param priceRange
-     * @param address
-     * @return a new updated PropertyToSell
-     */
-    public PropertyToSell updatePropertyToSell(HouseType houseType, Location location,
-                                               PriceRange priceRange, Address address) {
-        this.house = new House(houseType, location);
-        this.priceRange = priceRange;
-        this.address = address;
-        return this;
-    }
-
     public House getHouse() {
         return this.house;
     }
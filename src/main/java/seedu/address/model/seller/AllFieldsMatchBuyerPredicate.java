@@ -1,8 +1,11 @@
 package seedu.address.model.seller;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
 import seedu.address.model.property.House;
 import seedu.address.model.property.HouseType;
 import seedu.address.model.property.NullPropertyToSell;
@@ -15,7 +18,7 @@ import seedu.address.model.property.PropertyToSell;
  * Tests that a {@code Seller}'s {@code PropertyToSell} matches the demand
  *  of a given {@code Buyer}'s {@code PropertyToBuy}.
  */
-public class AllFieldsMatchBuyerPredicate implements Predicate<Seller> {
+public class AllFieldsMatchBuyerPredicate implements IndexedPredicate<Seller> {
 
     /**
      * Index of Buyer in UniqueBuyerList to match with.
@@ -57,6 +60,23 @@ public class AllFieldsMatchBuyerPredicate implements Predicate<Seller> {
         return isMatchedPrices && isMatchedHouse && isNotNullProperty;
     }
 
+    /**
+     * Returns the sellers in the cell of the Buyer's House whose PriceRange overlaps the Buyer's, or in every cell at
+     * the Buyer's Location if the Buyer's house type is unspecified.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        PropertyToBuy propertyToBuy = getPropertyToBuy();
+        House houseToBuy = propertyToBuy.getHouse();
+        HouseType buyType = houseToBuy.getHouseType();
+
+        Predicate<HouseType> houseTypeFilter = buyType.equals(HouseType.UNSPECIFIED)
+                ? houseType -> true
+                : buyType::equals;
+        return indexes.getHousePriceIndex().getClientsAt(
+                houseToBuy.getLocation(), houseTypeFilter, getBuyRange(propertyToBuy));
+    }
+
     public PropertyToBuy getPropertyToBuy() {
         return buyer.getPropertyToBuy();
     }
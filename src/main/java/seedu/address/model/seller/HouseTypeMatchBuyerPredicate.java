@@ -1,8 +1,10 @@
 package seedu.address.model.seller;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
 import seedu.address.model.property.House;
 import seedu.address.model.property.HouseType;
 import seedu.address.model.property.NullPropertyToSell;
@@ -14,7 +16,7 @@ import seedu.address.model.property.PropertyToSell;
  * Tests that a {@code Seller}'s {@code HouseType} matches the demand
  *  of a given {@code Buyer}'s {@code HouseType}.
  */
-public class HouseTypeMatchBuyerPredicate implements Predicate<Seller> {
+public class HouseTypeMatchBuyerPredicate implements IndexedPredicate<Seller> {
 
     /**
      * Index of Buyer in UniqueBuyerList to match with.
@@ -49,6 +51,18 @@ public class HouseTypeMatchBuyerPredicate implements Predicate<Seller> {
         return (buyType.equals(sellType) || buyType.equals(HouseType.UNSPECIFIED)) && isNotNullProperty;
     }
 
+    /**
+     * Returns the bucket of the Buyer's HouseType, or every bucket with a property if it is unspecified.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        HouseType buyType = getPropertyToBuy().getHouse().getHouseType();
+        if (buyType.equals(HouseType.UNSPECIFIED)) {
+            return indexes.getHouseTypeIndex().getClientsOf(houseType -> houseType != HouseType.NULLHOUSETYPE);
+        }
+        return indexes.getHouseTypeIndex().getClientsOf(buyType);
+    }
+
     public PropertyToBuy getPropertyToBuy() {
         return buyer.getPropertyToBuy();
     }
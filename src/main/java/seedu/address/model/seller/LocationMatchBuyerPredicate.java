@@ -1,8 +1,10 @@
 package seedu.address.model.seller;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
 import seedu.address.model.property.House;
 import seedu.address.model.property.Location;
 import seedu.address.model.property.NullPropertyToSell;
@@ -13,7 +15,7 @@ import seedu.address.model.property.PropertyToSell;
  * Tests that a {@code Seller}'s {@code Location} matches the demand
  *  of a given {@code Buyer}'s {@code Location}.
  */
-public class LocationMatchBuyerPredicate implements Predicate<Seller> {
+public class LocationMatchBuyerPredicate implements IndexedPredicate<Seller> {
 
     /**
      * Index of Buyer in UniqueBuyerList to match with.
@@ -47,6 +49,14 @@ public class LocationMatchBuyerPredicate implements Predicate<Seller> {
         return buyLocation.equals(sellLocation) && isNotNullProperty;
     }
 
+    /**
+     * Returns the sellers whose property is at the Buyer's Location, looked up in the location index.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        return indexes.getLocationIndex().getClientsAt(getPropertyToBuy().getHouse().getLocation());
+    }
+
     public PropertyToBuy getPropertyToBuy() {
         return buyer.getPropertyToBuy();
     }
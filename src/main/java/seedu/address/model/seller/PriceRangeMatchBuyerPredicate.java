@@ -1,8 +1,10 @@
 package seedu.address.model.seller;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
 import seedu.address.model.property.NullPropertyToSell;
 import seedu.address.model.property.PriceRange;
 import seedu.address.model.property.PropertyToBuy;
@@ -12,7 +14,7 @@ import seedu.address.model.property.PropertyToSell;
  * Tests that a {@code Seller}'s {@code PriceRange} matches the demand
  *  of a given {@code Buyer}'s {@code PriceRange}.
  */
-public class PriceRangeMatchBuyerPredicate implements Predicate<Seller> {
+public class PriceRangeMatchBuyerPredicate implements IndexedPredicate<Seller> {
     /**
      * Index of Buyer in UniqueBuyerList to match with.
      */
@@ -42,6 +44,14 @@ public class PriceRangeMatchBuyerPredicate implements Predicate<Seller> {
         return PriceRange.canMatchPrice(buyRange, sellRange) && isNotNullProperty;
     }
 
+    /**
+     * Returns the sellers whose PriceRange overlaps the Buyer's PriceRange, looked up in the price range index.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        return indexes.getPriceRangeIndex().getClientsOverlapping(getPropertyToBuy().getPriceRange());
+    }
+
     public PropertyToBuy getPropertyToBuy() {
         return buyer.getPropertyToBuy();
     }
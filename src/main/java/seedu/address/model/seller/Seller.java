@@ -19,12 +19,18 @@ public class Seller extends Client {
     //Data fields
     private final PropertyToSell propertyToSell;
 
+    // Lower-cased copies of the property fields searched on, computed once rather than on every query
+    private final String locationKey;
+    private final String houseTypeKey;
+
     /**
      * Constructor of Seller class.
      */
     public Seller(Name name, Phone phone, Appointment appointment, Set<Tag> tags, PropertyToSell propertyToSell) {
         super(name, phone, appointment, tags);
         this.propertyToSell = propertyToSell;
+        this.locationKey = propertyToSell.getHouse().getLocation().toString().toLowerCase();
+        this.houseTypeKey = propertyToSell.getHouse().getHouseType().toString().toLowerCase();
     }
 
 
@@ -37,6 +43,20 @@ public class Seller extends Client {
         return propertyToSell;
     }
 
+    /**
+     * Returns the lower-cased location of the seller's property.
+     */
+    public String getLocationKey() {
+        return locationKey;
+    }
+
+    /**
+     * Returns the lower-cased house type of the seller's property.
+     */
+    public String getHouseTypeKey() {
+        return houseTypeKey;
+    }
+
     /**
      * Gets the address of the seller's PropertyToSell.
      * The difference between PropertyToBuy and PropertyToSell is the address field.
@@ -1,25 +1,47 @@
 package seedu.address.model.seller;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.property.HouseType;
 
 /**
  * Tests that a {@code Seller}'s {@code Housetype} matches any of the keywords given.
  */
-public class SellerHouseTypeContainsKeywordsPredicate implements Predicate<Seller> {
+public class SellerHouseTypeContainsKeywordsPredicate implements IndexedPredicate<Seller> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate for {@code keywords}, each of which must be a single word, compiling them into one matcher.
+     */
     public SellerHouseTypeContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Seller seller) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        seller.getPropertyToSell().getHouse().getHouseType().toString(), keyword));
+        return matches(seller.getHouseTypeKey());
+    }
+
+    /**
+     * Returns the buckets of every house type that matches a keyword.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        return indexes.getHouseTypeIndex().getClientsOf(this::matches);
+    }
+
+    private boolean matches(HouseType houseType) {
+        return matches(houseType.toString().toLowerCase());
+    }
+
+    private boolean matches(String houseTypeKey) {
+        return matcher.isFoundIn(houseTypeKey);
     }
 
     @Override
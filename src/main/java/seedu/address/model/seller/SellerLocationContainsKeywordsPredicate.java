@@ -1,25 +1,47 @@
 package seedu.address.model.seller;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.property.Location;
 
 /**
  * Tests that a {@code Seller}'s {@code Location} matches any of the keywords given.
  */
-public class SellerLocationContainsKeywordsPredicate implements Predicate<Seller> {
+public class SellerLocationContainsKeywordsPredicate implements IndexedPredicate<Seller> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate for {@code keywords}, each of which must be a single word, compiling them into one matcher.
+     */
     public SellerLocationContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Seller seller) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
-                        seller.getPropertyToSell().getHouse().getLocation().toString(), keyword));
+        return matches(seller.getLocationKey());
+    }
+
+    /**
+     * Returns the sellers at every indexed location that matches a keyword, checking each distinct location once.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        return indexes.getLocationIndex().getClientsAt(this::matches);
+    }
+
+    private boolean matches(Location location) {
+        return matches(location.toString().toLowerCase());
+    }
+
+    private boolean matches(String locationKey) {
+        return matcher.isFoundIn(locationKey);
     }
 
     @Override
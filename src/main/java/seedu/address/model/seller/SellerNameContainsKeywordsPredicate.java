@@ -1,24 +1,42 @@
 package seedu.address.model.seller;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
 
 /**
  * Tests that a {@code Seller}'s {@code Name} matches any of the keywords given.
  */
-public class SellerNameContainsKeywordsPredicate implements Predicate<Seller> {
+public class SellerNameContainsKeywordsPredicate implements IndexedPredicate<Seller> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate for {@code keywords}, each of which must be a single word, compiling them into one matcher.
+     */
     public SellerNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Seller seller) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(seller.getName().fullName, keyword));
+        return matcher.isFoundIn(seller.getNameKey());
+    }
+
+    /**
+     * Returns the sellers whose name shares every trigram of some keyword, looked up in the name index.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        Set<Seller> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword -> candidates.addAll(indexes.getNameIndex().getClientsContaining(keyword)));
+        return candidates;
     }
 
     @Override
@@ -0,0 +1,46 @@
+package seedu.address.model.seller;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.property.PropertyToSell;
+
+/**
+ * Tests that a {@code Seller} has a property whose {@code PriceRange} shares at least one price with the price range
+ * given.
+ */
+public class SellerPriceRangeOverlapsPredicate implements IndexedPredicate<Seller> {
+    private final PriceRange priceRange;
+
+    public SellerPriceRangeOverlapsPredicate(PriceRange priceRange) {
+        this.priceRange = requireNonNull(priceRange);
+    }
+
+    @Override
+    public boolean test(Seller seller) {
+        PropertyToSell propertyToSell = seller.getPropertyToSell();
+        return !(propertyToSell instanceof NullPropertyToSell)
+                && PriceRange.canMatchPrice(priceRange, propertyToSell.getPriceRange());
+    }
+
+    /**
+     * Returns the sellers whose price range overlaps the given one, looked up in the price range index.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        return indexes.getPriceRangeIndex().getClientsOverlapping(priceRange);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SellerPriceRangeOverlapsPredicate // instanceof handles nulls
+                && priceRange.equals(((SellerPriceRangeOverlapsPredicate) other).priceRange)); // state check
+    }
+
+}
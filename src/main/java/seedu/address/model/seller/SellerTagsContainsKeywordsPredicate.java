@@ -1,24 +1,52 @@
 package seedu.address.model.seller;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.index.IndexedPredicate;
 
 /**
- * Tests that a {@code Seller}'s {@code Name} matches any of the keywords given.
+ * Tests that any of a {@code Seller}'s tags matches any of the keywords given, ignoring case.
+ * A keyword in double quotes matches a tag with exactly that name; any other keyword matches the tags starting with it.
  */
-public class SellerTagsContainsKeywordsPredicate implements Predicate<Seller> {
+public class SellerTagsContainsKeywordsPredicate implements IndexedPredicate<Seller> {
     private final List<String> keywords;
+    private final List<String> exactNames;
+    private final List<String> prefixes;
 
+    /**
+     * Creates a predicate for {@code keywords}, sorting them into exact tag names and prefixes.
+     */
     public SellerTagsContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.exactNames = keywords.stream()
+                .filter(SellerTagsContainsKeywordsPredicate::isQuoted)
+                .map(keyword -> keyword.substring(1, keyword.length() - 1).toLowerCase())
+                .collect(Collectors.toList());
+        this.prefixes = keywords.stream()
+                .filter(keyword -> !isQuoted(keyword))
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Seller seller) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(seller.getTags().toString(), keyword));
+        return seller.getTagKeys().stream()
+                .anyMatch(tagName -> exactNames.contains(tagName) || prefixes.stream().anyMatch(tagName::startsWith));
+    }
+
+    /**
+     * Returns the sellers with a matching tag, looked up in the tag index.
+     */
+    @Override
+    public Set<Seller> getCandidates(ClientIndexes<Seller> indexes) {
+        return indexes.getTagIndex().getClientsTaggedWithAny(exactNames, prefixes);
+    }
+
+    private static boolean isQuoted(String keyword) {
+        return keyword.length() > 2 && keyword.startsWith("\"") && keyword.endsWith("\"");
     }
 
     @Override
@@ -3,16 +3,25 @@ package seedu.address.model.seller;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.commons.util.ComparatorUtil;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.Name;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.index.ClientIndexes;
+import seedu.address.model.property.NullPropertyToSell;
 
 /**
  * A list of clients that enforces uniqueness between its elements and does not allow nulls.
@@ -31,12 +40,31 @@ public class UniqueSellerList implements Iterable<Seller> {
     private final ObservableList<Seller> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Index of the sellers in {@code internalList} keyed by {@code Name}, the identity field used by
+     * {@code Client#isSameclient(Client)}. Must be kept in step with every change to {@code internalList}.
+     */
+    private final Map<Name, Seller> sellersByName = new HashMap<>();
+
+    /**
+     * Position of every seller object in {@code internalList}, compared by identity so that {@code equals} is never
+     * called while resolving the target of an edit or delete. Rebuilt after reorderings such as sorts.
+     */
+    private final Map<Seller, Integer> positions = new IdentityHashMap<>();
+
+    /**
+     * Secondary indexes over the sellers in {@code internalList}, updated before each change to it.
+     */
+    private final ClientIndexes<Seller> indexes = new ClientIndexes<>(
+        seller -> seller.getPropertyToSell().getHouse(), seller -> seller.getPropertyToSell().getPriceRange(),
+        seller -> !(seller.getPropertyToSell() instanceof NullPropertyToSell));
+
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameclient);
+        return sellersByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -48,7 +76,10 @@ public class UniqueSellerList implements Iterable<Seller> {
         if (contains(toAdd)) {
             throw new DuplicateClientException();
         }
+        indexes.add(toAdd);
         internalList.add(toAdd);
+        sellersByName.put(toAdd.getName(), toAdd);
+        positions.put(toAdd, internalList.size() - 1);
     }
 
     /**
@@ -59,16 +90,20 @@ public class UniqueSellerList implements Iterable<Seller> {
     public void setSeller(Seller target, Seller editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ClientNotFoundException();
-        }
+        Seller existing = find(target);
+        int index = positions.get(existing);
 
         if (!target.isSameclient(editedClient) && contains(editedClient)) {
             throw new DuplicateClientException();
         }
 
+        indexes.remove(existing);
+        indexes.add(editedClient);
         internalList.set(index, editedClient);
+        sellersByName.remove(existing.getName());
+        sellersByName.put(editedClient.getName(), editedClient);
+        positions.remove(existing);
+        positions.put(editedClient, index);
     }
 
     /**
@@ -77,31 +112,99 @@ public class UniqueSellerList implements Iterable<Seller> {
      */
     public void remove(Seller toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new ClientNotFoundException();
-        }
+        Seller existing = find(toRemove);
+        int index = positions.remove(existing);
+
+        indexes.remove(existing);
+        internalList.remove(index);
+        sellersByName.remove(existing.getName());
+        updatePositionsFrom(index);
     }
 
     public void setSellers(UniqueSellerList replacement) {
         requireNonNull(replacement);
+        indexes.reset(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        sellersByName.clear();
+        sellersByName.putAll(replacement.sellersByName);
+        positions.clear();
+        positions.putAll(replacement.positions);
     }
 
     /**
      * Replaces the contents of this list with {@code clients}.
      * {@code clients} must not contain duplicate clients.
+     * Uniqueness is validated in a single hashed pass and the backing list is filled with one {@code setAll},
+     * so this is also the bulk-load path used when reading a whole address book.
+     *
+     * @throws DuplicateClientException listing every duplicated identity if {@code clients} is not unique.
      */
     public void setSellers(List<Seller> sellers) {
         requireAllNonNull(sellers);
-        if (!clientsAreUnique(sellers)) {
-            throw new DuplicateClientException();
+        Map<Name, Seller> newIndex = new HashMap<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Seller seller : sellers) {
+            if (newIndex.putIfAbsent(seller.getName(), seller) != null) {
+                duplicateNames.add(seller.getName());
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateClientException(new ArrayList<>(duplicateNames));
         }
 
+        indexes.reset(sellers);
         internalList.setAll(sellers);
+        sellersByName.clear();
+        sellersByName.putAll(newIndex);
+        positions.clear();
+        updatePositionsFrom(0);
     }
 
-    public void sortPersons() {
-        internalList.sort(Comparator.comparing(p -> p.getName().fullName));
+    /**
+     * Returns the seller object stored in this list that is equal to {@code target}.
+     * Only the seller with the same name can be equal to {@code target}, so this avoids scanning the list.
+     *
+     * @throws ClientNotFoundException if no such seller exists.
+     */
+    private Seller find(Seller target) {
+        Seller existing = sellersByName.get(target.getName());
+        if (existing == null || !existing.equals(target)) {
+            throw new ClientNotFoundException();
+        }
+        return existing;
+    }
+
+    /**
+     * Records the current position of every seller from {@code start} to the end of {@code internalList}.
+     */
+    private void updatePositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the positions in this list of {@code sellers}, compared by identity, as a bitmap.
+     * Sellers that are not in this list are left out.
+     */
+    public BitSet getPositions(Collection<? extends Seller> sellers) {
+        requireNonNull(sellers);
+        BitSet bits = new BitSet(internalList.size());
+        for (Seller seller : sellers) {
+            Integer position = positions.get(seller);
+            if (position != null) {
+                bits.set(position);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the secondary indexes over this list. They are kept up to date by this list and must not be
+     * modified by callers.
+     */
+    public ClientIndexes<Seller> getIndexes() {
+        return indexes;
     }
 
     /**
@@ -127,37 +230,4 @@ public class UniqueSellerList implements Iterable<Seller> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code clients} contains only unique clients.
-     */
-    private boolean clientsAreUnique(List<Seller> sellers) {
-        for (int i = 0; i < sellers.size() - 1; i++) {
-            for (int j = i + 1; j < sellers.size(); j++) {
-                if (sellers.get(i).isSameclient(sellers.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Sorts the sellers in according to the field {@code comparedItem} and in the {@order} order.
-     */
-    public void sortSellers(String comparedItem, String order) {
-        if (comparedItem.equals("name")) {
-            if (order.equals("asc")) {
-                internalList.sort(ComparatorUtil.NAME_COMPARATOR_ASC);
-            } else {
-                internalList.sort(ComparatorUtil.NAME_COMPARATOR_DESC);
-            }
-        } else {
-            if (order.equals("asc")) {
-                internalList.sort(ComparatorUtil.TIME_COMPARATOR_ASC);
-            } else {
-                internalList.sort(ComparatorUtil.TIME_COMAPRATOR_DESC);
-            }
-        }
-    }
 }
@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +17,14 @@ public class Tag {
             + " and cannot contain spacing";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /**
+     * One shared instance per tag name, so that clients with the same tag do not each hold a copy of it.
+     * Each tag is keyed by its own name and held only weakly, so a tag that nothing else refers to any more, such as
+     * one parsed from a keyword or held by a deleted client, is dropped by the garbage collector.
+     * Guarded by its own lock.
+     */
+    private static final Map<String, WeakReference<Tag>> INTERNED = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -26,6 +38,25 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, creating it if no tag with that name is in use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        synchronized (INTERNED) {
+            WeakReference<Tag> interned = INTERNED.get(tagName);
+            Tag tag = interned == null ? null : interned.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                INTERNED.put(tag.tagName, new WeakReference<>(tag));
+            }
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
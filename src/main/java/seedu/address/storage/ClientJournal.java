@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Durability;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only journal of the changes saved to a list of clients since its last full snapshot.
+ * Each save appends one line holding the {@code ClientListSplice} from the previously saved list, so the cost of a
+ * save grows with the size of the change rather than the size of the list.
+ * Every record has a sequence number, and the snapshot keeps the sequence of the last record folded into it, so
+ * records left behind by a compaction that was cut short are skipped rather than applied twice.
+ */
+class ClientJournal<T> {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(ClientJournal.class);
+
+    private final Path filePath;
+    private final Durability durability;
+    private final Class<? extends JsonAdaptedSplice<T>> recordClass;
+    private final BiFunction<Long, ClientListSplice<T>, ? extends JsonAdaptedSplice<T>> toRecord;
+
+    /**
+     * The clients as of the last save or replay, or null if they are not known, in which case the next save must
+     * write a full snapshot.
+     */
+    private List<T> saved;
+    private long sequence;
+    private long sizeInBytes;
+
+    /**
+     * Whether the journal ends with a record that was cut short, so that nothing may be appended after it.
+     */
+    private boolean isTornAtEnd;
+
+    /**
+     * Creates a journal in {@code filePath} whose records are read as {@code recordClass} and written through
+     * {@code toRecord}, with the given {@code durability}.
+     */
+    ClientJournal(Path filePath, Durability durability, Class<? extends JsonAdaptedSplice<T>> recordClass,
+            BiFunction<Long, ClientListSplice<T>, ? extends JsonAdaptedSplice<T>> toRecord) {
+        requireAllNonNull(filePath, durability);
+        this.filePath = filePath;
+        this.durability = durability;
+        this.recordClass = recordClass;
+        this.toRecord = toRecord;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot in {@code snapshotFilePath}.
+     */
+    static Path journalPathOf(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    boolean exists() {
+        return Files.exists(filePath);
+    }
+
+    /**
+     * Returns the sequence of the last record written or replayed, which a snapshot of the current clients keeps.
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns {@code snapshot}, whose last folded record is {@code snapshotSequence}, with the later records of the
+     * journal applied to it. The result is also remembered as the last saved clients.
+     * A last record that was cut short, by a crash while it was being appended, is ignored, and the next save writes
+     * a full snapshot so that nothing is appended after it.
+     *
+     * @throws DataConversionException if the journal cannot be read or a record does not fit the clients.
+     */
+    List<T> replay(long snapshotSequence, List<T> snapshot) throws DataConversionException {
+        List<T> clients = new ArrayList<>(snapshot);
+        sequence = snapshotSequence;
+        sizeInBytes = 0;
+        isTornAtEnd = false;
+
+        if (exists()) {
+            byte[] content;
+            try {
+                content = Files.readAllBytes(filePath);
+            } catch (IOException e) {
+                throw new DataConversionException(e);
+            }
+            sizeInBytes = content.length;
+
+            String[] lines = new String(content, StandardCharsets.UTF_8).split("\n", -1);
+            for (int i = 0; i < lines.length - 1; i++) {
+                applyRecord(lines[i], clients);
+            }
+            String tail = lines[lines.length - 1];
+            if (!tail.isEmpty()) {
+                isTornAtEnd = true;
+                try {
+                    applyRecord(tail, clients);
+                } catch (DataConversionException e) {
+                    logger.warning("Ignoring incomplete last record of " + filePath);
+                }
+            }
+        }
+
+        saved = new ArrayList<>(clients);
+        return clients;
+    }
+
+    private void applyRecord(String line, List<T> clients) throws DataConversionException {
+        try {
+            JsonAdaptedSplice<T> record = JsonUtil.fromJsonString(line, recordClass);
+            if (record.getSequence() <= sequence) {
+                return;
+            }
+            record.toModelType().applyTo(clients);
+            sequence = record.getSequence();
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Invalid record found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns true if a save of a list of clients can be appended to the journal, rather than written as a full
+     * snapshot, given that the journal is compacted once it holds {@code compactionThreshold} bytes.
+     */
+    boolean canAppend(long compactionThreshold) {
+        return saved != null && !isTornAtEnd && sizeInBytes < compactionThreshold;
+    }
+
+    /**
+     * Appends the change from the last saved clients to {@code clients}, if there is any.
+     * Must only be called if {@link #canAppend} is true. If the append fails, {@link #canAppend} is false until the
+     * next full snapshot, so saving the same clients again writes them in full.
+     */
+    void append(List<T> clients) throws IOException {
+        Optional<ClientListSplice<T>> splice = ClientListSplice.between(saved, clients);
+        if (!splice.isPresent()) {
+            return;
+        }
+
+        byte[] line = (JsonUtil.toCompactJsonString(toRecord.apply(sequence + 1, splice.get())) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            FileUtil.appendToFile(filePath, line, durability);
+        } catch (IOException e) {
+            // the record may have been written in part or in full, so nothing may follow it and its sequence is
+            // spent, which keeps it from being applied on top of the snapshot that the next save writes instead
+            sequence++;
+            isTornAtEnd = true;
+            throw e;
+        }
+        sequence++;
+        sizeInBytes += line.length;
+        saved = new ArrayList<>(clients);
+    }
+
+    /**
+     * Empties the journal once {@code clients} have been written as a full snapshot that keeps the current sequence.
+     */
+    void compacted(List<T> clients) throws IOException {
+        Files.deleteIfExists(filePath);
+        sizeInBytes = 0;
+        isTornAtEnd = false;
+        saved = new ArrayList<>(clients);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * A change to a list of clients that replaces the {@code removedCount} clients starting at {@code from} with the
+ * {@code added} clients. Any change to a list, such as an add, an edit or a delete, can be written as one splice.
+ */
+class ClientListSplice<T> {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal record does not fit the address book it applies to";
+
+    private final int from;
+    private final int removedCount;
+    private final List<T> added;
+
+    /**
+     * Creates a splice that replaces {@code removedCount} clients from {@code from} with {@code added}.
+     */
+    ClientListSplice(int from, int removedCount, List<? extends T> added) {
+        requireNonNull(added);
+        this.from = from;
+        this.removedCount = removedCount;
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    /**
+     * Returns the smallest splice that turns {@code before} into {@code after}, or an empty {@code Optional} if they
+     * hold the same clients. Clients are compared by identity, which is enough since an edit replaces the client.
+     */
+    static <T> Optional<ClientListSplice<T>> between(List<? extends T> before, List<? extends T> after) {
+        int prefix = 0;
+        int shorter = Math.min(before.size(), after.size());
+        while (prefix < shorter && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        if (prefix == before.size() && prefix == after.size()) {
+            return Optional.empty();
+        }
+
+        int suffix = 0;
+        while (suffix < shorter - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+        return Optional.of(new ClientListSplice<>(prefix, before.size() - prefix - suffix,
+                after.subList(prefix, after.size() - suffix)));
+    }
+
+    int getFrom() {
+        return from;
+    }
+
+    int getRemovedCount() {
+        return removedCount;
+    }
+
+    List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Applies this splice to {@code clients}.
+     *
+     * @throws IllegalValueException if the clients to remove are not all in {@code clients}.
+     */
+    void applyTo(List<T> clients) throws IllegalValueException {
+        if (from < 0 || removedCount < 0 || from + removedCount > clients.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+        List<T> replaced = clients.subList(from, from + removedCount);
+        replaced.clear();
+        replaced.addAll(added);
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes files on a background thread, so that the caller does not wait for the disk.
+ * Only the newest write submitted for each file is kept: a write that has not started by the time a newer one is
+ * submitted for the same file is dropped, since the newer one replaces the whole file anyway.
+ * A failed write is kept and tried again by the next call to {@link #submit} or {@link #flush}, unless a newer write
+ * to the same file replaces it. Its failure is reported once by the next {@link #submit}, and by every
+ * {@link #flush} that finds the write still failing, so that the data on disk is never silently left stale.
+ */
+public class CoalescingWriter {
+
+    /**
+     * Writes one file. Must only read data that no longer changes, such as a snapshot taken when it was submitted.
+     */
+    @FunctionalInterface
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    /**
+     * A write that failed, together with its latest failure.
+     */
+    private static class FailedWrite implements Write {
+        private final Write write;
+        private IOException failure;
+
+        /**
+         * Whether the failure was reported by {@link #submit} or {@link #flush}, so that trying the write again and
+         * failing in the same way is not reported by {@code submit} a second time.
+         */
+        private boolean isReported;
+
+        private FailedWrite(Write write) {
+            this.write = write;
+        }
+
+        @Override
+        public void run() throws IOException {
+            write.run();
+        }
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(CoalescingWriter.class);
+
+    private final Executor executor;
+
+    /**
+     * The writes waiting to run, keyed by the file they write, in the order their files were first submitted.
+     */
+    private final Map<Path, Write> pending = new LinkedHashMap<>();
+
+    /**
+     * The writes that failed and have not been replaced by a newer write to the same file, keyed by that file.
+     */
+    private final Map<Path, FailedWrite> failed = new LinkedHashMap<>();
+
+    /**
+     * Whether a task is running or queued to run the pending writes.
+     */
+    private boolean isDraining;
+
+    /**
+     * Creates a {@code CoalescingWriter} that writes on its own daemon thread.
+     */
+    public CoalescingWriter() {
+        this(Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code CoalescingWriter} that runs its writes on {@code executor}, one at a time.
+     */
+    public CoalescingWriter(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Queues {@code write} to write {@code file}, replacing any write to the same file that has not started yet or
+     * has failed, and queues the other failed writes to be tried again.
+     *
+     * @throws IOException if an earlier write to another file failed and its failure was not reported yet.
+     *     {@code write} is queued all the same.
+     */
+    public synchronized void submit(Path file, Write write) throws IOException {
+        requireAllNonNull(file, write);
+        failed.remove(file);
+        IOException earlierFailure = null;
+        for (FailedWrite failedWrite : failed.values()) {
+            if (!failedWrite.isReported) {
+                failedWrite.isReported = true;
+                earlierFailure = failedWrite.failure;
+            }
+        }
+
+        retryFailed();
+        pending.remove(file);
+        pending.put(file, write);
+        startDraining();
+
+        if (earlierFailure != null) {
+            throw earlierFailure;
+        }
+    }
+
+    /**
+     * Tries the failed writes again and waits until every write submitted so far has finished.
+     *
+     * @throws IOException if a write is still failing.
+     */
+    public synchronized void flush() throws IOException {
+        retryFailed();
+        startDraining();
+        while (isDraining) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for pending writes");
+            }
+        }
+
+        IOException stillFailing = null;
+        for (FailedWrite failedWrite : failed.values()) {
+            failedWrite.isReported = true;
+            stillFailing = failedWrite.failure;
+        }
+        if (stillFailing != null) {
+            throw stillFailing;
+        }
+    }
+
+    private void retryFailed() {
+        for (Map.Entry<Path, FailedWrite> entry : failed.entrySet()) {
+            pending.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        failed.clear();
+    }
+
+    private void startDraining() {
+        if (!isDraining && !pending.isEmpty()) {
+            isDraining = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        Map.Entry<Path, Write> next;
+        while ((next = takeNext()) != null) {
+            try {
+                next.getValue().run();
+            } catch (IOException e) {
+                fail(next.getKey(), next.getValue(), e);
+            } catch (RuntimeException e) {
+                fail(next.getKey(), next.getValue(), new IOException(e));
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the oldest pending write, or returns null and wakes up any flush if there is none.
+     */
+    private synchronized Map.Entry<Path, Write> takeNext() {
+        Iterator<Map.Entry<Path, Write>> writes = pending.entrySet().iterator();
+        if (!writes.hasNext()) {
+            isDraining = false;
+            notifyAll();
+            return null;
+        }
+        Map.Entry<Path, Write> next = writes.next();
+        Map.Entry<Path, Write> taken = Map.entry(next.getKey(), next.getValue());
+        writes.remove();
+        return taken;
+    }
+
+    /**
+     * Keeps {@code write} to be tried again, unless a newer write to {@code file} was submitted while it ran.
+     */
+    private synchronized void fail(Path file, Write write, IOException e) {
+        logger.warning("Failed to write " + file + " in the background: " + e);
+        if (pending.containsKey(file)) {
+            return;
+        }
+        FailedWrite failedWrite = write instanceof FailedWrite ? (FailedWrite) write : new FailedWrite(write);
+        failedWrite.failure = e;
+        failed.put(file, failedWrite);
+    }
+}
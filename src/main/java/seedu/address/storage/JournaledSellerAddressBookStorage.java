@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Durability;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlySellerAddressBook;
+import seedu.address.model.seller.Seller;
+
+/**
+ * A class to access SellerAddressBook data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes saved since the snapshot was written.
+ * A save only appends the change since the previous save to the journal. Once the journal holds
+ * {@code compactionThreshold} bytes, the next save writes a full snapshot instead and empties the journal.
+ */
+public class JournaledSellerAddressBookStorage extends JsonSellerAddressBookStorage {
+
+    public static final String UNREADABLE_FILE_SUFFIX = ".corrupt";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledSellerAddressBookStorage.class);
+
+    private final long compactionThreshold;
+    private final Durability durability;
+    private final ClientJournal<Seller> journal;
+
+    /**
+     * Creates a storage for the snapshot in {@code filePath}, whose journal is compacted once it holds
+     * {@code compactionThreshold} bytes. A threshold of 0 writes a full snapshot on every save.
+     * Both the snapshot and the journal are written with the given {@code durability}.
+     */
+    public JournaledSellerAddressBookStorage(Path filePath, long compactionThreshold, Durability durability) {
+        super(filePath);
+        this.compactionThreshold = compactionThreshold;
+        this.durability = durability;
+        journal = new ClientJournal<>(ClientJournal.journalPathOf(filePath), durability,
+                JsonAdaptedSellerSplice.class, JsonAdaptedSellerSplice::new);
+    }
+
+    /**
+     * Reads the snapshot in {@code filePath} and replays its journal on top of it.
+     * Files other than the one this storage was created for are read without a journal.
+     * If they cannot be read, the snapshot and the journal are copied aside with a {@code .corrupt} suffix first,
+     * so that they are not lost when the address book started in their place is saved.
+     *
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySellerAddressBook> readSellerAddressBook(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getSellerAddressBookFilePath())) {
+            return super.readSellerAddressBook(filePath);
+        }
+
+        try {
+            return readSnapshotAndJournal(filePath);
+        } catch (DataConversionException e) {
+            copyAsideUnreadable(filePath);
+            throw e;
+        }
+    }
+
+    private Optional<ReadOnlySellerAddressBook> readSnapshotAndJournal(Path filePath) throws DataConversionException {
+        try {
+            Optional<JsonSnapshotReader<Seller>> snapshot = readSnapshot(filePath);
+            if (!snapshot.isPresent() && !journal.exists()) {
+                return Optional.empty();
+            }
+
+            List<Seller> sellers = snapshot.isPresent() ? snapshot.get().getClients() : Collections.emptyList();
+            long snapshotSequence = snapshot.map(JsonSnapshotReader::getJournalSequence).orElse(0L);
+            List<Seller> replayed = journal.replay(snapshotSequence, sellers);
+            return Optional.of(JsonSerializableSellerAddressBook.toAddressBook(replayed));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private void copyAsideUnreadable(Path filePath) {
+        try {
+            FileUtil.copyAside(filePath, UNREADABLE_FILE_SUFFIX);
+            FileUtil.copyAside(ClientJournal.journalPathOf(filePath), UNREADABLE_FILE_SUFFIX);
+            logger.warning("Copied unreadable " + filePath + " and its journal aside with the suffix "
+                    + UNREADABLE_FILE_SUFFIX);
+        } catch (IOException e) {
+            logger.warning("Failed to copy unreadable " + filePath + " aside: " + e);
+        }
+    }
+
+    /**
+     * Appends the change to {@code sellerAddressBook} since the last save to the journal, or writes it as a full
+     * snapshot if the journal is due for compaction.
+     * Files other than the one this storage was created for are written in full without a journal.
+     */
+    @Override
+    public synchronized void saveSellerAddressBook(ReadOnlySellerAddressBook sellerAddressBook, Path filePath)
+            throws IOException {
+        requireNonNull(sellerAddressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getSellerAddressBookFilePath())) {
+            super.saveSellerAddressBook(sellerAddressBook, filePath);
+            return;
+        }
+
+        List<Seller> sellers = sellerAddressBook.getSellerList();
+        if (journal.canAppend(compactionThreshold)) {
+            journal.append(sellers);
+            return;
+        }
+
+        logger.fine("Compacting the journal of " + filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableSellerAddressBook(sellerAddressBook, journal.getSequence()),
+                filePath, durability);
+        journal.compacted(sellers);
+    }
+}
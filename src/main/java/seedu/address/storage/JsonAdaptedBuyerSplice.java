@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.buyer.Buyer;
+
+/**
+ * Jackson-friendly version of a {@link ClientListSplice} made to the buyer list, as recorded in the journal.
+ */
+class JsonAdaptedBuyerSplice implements JsonAdaptedSplice<Buyer> {
+
+    private final long sequence;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedBuyer> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedBuyerSplice} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedBuyerSplice(@JsonProperty("sequence") long sequence, @JsonProperty("from") int from,
+            @JsonProperty("removed") int removed, @JsonProperty("added") List<JsonAdaptedBuyer> added) {
+        this.sequence = sequence;
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code splice} into this class for Jackson use.
+     */
+    public JsonAdaptedBuyerSplice(long sequence, ClientListSplice<Buyer> splice) {
+        this.sequence = sequence;
+        from = splice.getFrom();
+        removed = splice.getRemovedCount();
+        added.addAll(splice.getAdded().stream().map(JsonAdaptedBuyer::new).collect(Collectors.toList()));
+    }
+
+    @Override
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public ClientListSplice<Buyer> toModelType() throws IllegalValueException {
+        List<Buyer> modelBuyers = new ArrayList<>(added.size());
+        for (JsonAdaptedBuyer jsonAdaptedBuyer : added) {
+            modelBuyers.add(jsonAdaptedBuyer.toModelType());
+        }
+        return new ClientListSplice<>(from, removed, modelBuyers);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.seller.Seller;
+
+/**
+ * Jackson-friendly version of a {@link ClientListSplice} made to the seller list, as recorded in the journal.
+ */
+class JsonAdaptedSellerSplice implements JsonAdaptedSplice<Seller> {
+
+    private final long sequence;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedSeller> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSellerSplice} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedSellerSplice(@JsonProperty("sequence") long sequence, @JsonProperty("from") int from,
+            @JsonProperty("removed") int removed, @JsonProperty("added") List<JsonAdaptedSeller> added) {
+        this.sequence = sequence;
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code splice} into this class for Jackson use.
+     */
+    public JsonAdaptedSellerSplice(long sequence, ClientListSplice<Seller> splice) {
+        this.sequence = sequence;
+        from = splice.getFrom();
+        removed = splice.getRemovedCount();
+        added.addAll(splice.getAdded().stream().map(JsonAdaptedSeller::new).collect(Collectors.toList()));
+    }
+
+    @Override
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public ClientListSplice<Seller> toModelType() throws IllegalValueException {
+        List<Seller> modelSellers = new ArrayList<>(added.size());
+        for (JsonAdaptedSeller jsonAdaptedSeller : added) {
+            modelSellers.add(jsonAdaptedSeller.toModelType());
+        }
+        return new ClientListSplice<>(from, removed, modelSellers);
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.storage;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * A journal record, as read from or written to JSON, of a {@code ClientListSplice} made to an address book.
+ */
+interface JsonAdaptedSplice<T> {
+
+    /**
+     * Returns the position of this record in the journal. Records later in the journal have larger sequences.
+     */
+    long getSequence();
+
+    /**
+     * Converts this record into the splice it records.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the added clients.
+     */
+    ClientListSplice<T> toModelType() throws IllegalValueException;
+}
@@ -13,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyBuyerAddressBook;
+import seedu.address.model.buyer.Buyer;
 
 public class JsonBuyerAddressBookStorage implements BuyerAddressBookStorage {
 
@@ -42,20 +43,31 @@ public class JsonBuyerAddressBookStorage implements BuyerAddressBookStorage {
     public Optional<ReadOnlyBuyerAddressBook> readBuyerAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableBuyerAddressBook> jsonBuyerAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableBuyerAddressBook.class);
-        if (!jsonBuyerAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonBuyerAddressBook.get().toModelType());
+            Optional<JsonSnapshotReader<Buyer>> snapshot = readSnapshot(filePath);
+            if (!snapshot.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableBuyerAddressBook.toAddressBook(snapshot.get().getClients()));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads the buyers in {@code filePath} one at a time, converting each into the model's {@code Buyer} as soon as
+     * it is read.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in a buyer.
+     */
+    static Optional<JsonSnapshotReader<Buyer>> readSnapshot(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        return JsonSnapshotReader.read(filePath, JsonSerializableBuyerAddressBook.BUYERS_FIELD,
+                JsonAdaptedBuyer.class, JsonAdaptedBuyer::toModelType);
+    }
+
     @Override
     public void saveBuyerAddressBook(ReadOnlyBuyerAddressBook addressBook) throws IOException {
         saveBuyerAddressBook(addressBook, filePath);
@@ -13,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlySellerAddressBook;
+import seedu.address.model.seller.Seller;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -45,20 +46,31 @@ public class JsonSellerAddressBookStorage implements SellerAddressBookStorage {
     public Optional<ReadOnlySellerAddressBook> readSellerAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableSellerAddressBook> jsonSellerAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableSellerAddressBook.class);
-        if (!jsonSellerAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonSellerAddressBook.get().toModelType());
+            Optional<JsonSnapshotReader<Seller>> snapshot = readSnapshot(filePath);
+            if (!snapshot.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableSellerAddressBook.toAddressBook(snapshot.get().getClients()));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads the sellers in {@code filePath} one at a time, converting each into the model's {@code Seller} as soon as
+     * it is read.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in a seller.
+     */
+    static Optional<JsonSnapshotReader<Seller>> readSnapshot(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        return JsonSnapshotReader.read(filePath, JsonSerializableSellerAddressBook.SELLERS_FIELD,
+                JsonAdaptedSeller.class, JsonAdaptedSeller::toModelType);
+    }
+
     @Override
     public void saveSellerAddressBook(ReadOnlySellerAddressBook addressBook) throws IOException {
         saveSellerAddressBook(addressBook, filePath);
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.BuyerAddressBook;
 import seedu.address.model.ReadOnlyBuyerAddressBook;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.client.exceptions.DuplicateClientException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -19,16 +21,25 @@ import seedu.address.model.buyer.Buyer;
 @JsonRootName(value = "buyerAddressbook")
 public class JsonSerializableBuyerAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_BUYER = "buyer list contains duplicate buyer(s).";
+    public static final String BUYERS_FIELD = "buyers";
+    public static final String MESSAGE_DUPLICATE_BUYER = "buyer list contains duplicate buyer(s): %1$s";
 
     private final List<JsonAdaptedBuyer> buyers = new ArrayList<>();
 
+    /**
+     * The sequence of the last journal record folded into this snapshot, or 0 if none was.
+     */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given clients.
      */
     @JsonCreator
-    public JsonSerializableBuyerAddressBook(@JsonProperty("buyers") List<JsonAdaptedBuyer> buyers) {
+    public JsonSerializableBuyerAddressBook(@JsonProperty(BUYERS_FIELD) List<JsonAdaptedBuyer> buyers,
+            @JsonProperty(JsonSnapshotReader.JOURNAL_SEQUENCE_FIELD) long journalSequence) {
         this.buyers.addAll(buyers);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -37,7 +48,20 @@ public class JsonSerializableBuyerAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableBuyerAddressBook}.
      */
     public JsonSerializableBuyerAddressBook(ReadOnlyBuyerAddressBook source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, as a snapshot that has folded in
+     * the journal records up to {@code journalSequence}.
+     */
+    public JsonSerializableBuyerAddressBook(ReadOnlyBuyerAddressBook source, long journalSequence) {
         buyers.addAll(source.getBuyerList().stream().map(JsonAdaptedBuyer::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
@@ -46,13 +70,34 @@ public class JsonSerializableBuyerAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public BuyerAddressBook toModelType() throws IllegalValueException {
-        BuyerAddressBook addressBook = new BuyerAddressBook();
+        return toAddressBook(toModelList());
+    }
+
+    /**
+     * Converts the buyers in this address book into the model's {@code Buyer} objects, in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in a buyer.
+     */
+    public List<Buyer> toModelList() throws IllegalValueException {
+        List<Buyer> modelBuyers = new ArrayList<>(buyers.size());
         for (JsonAdaptedBuyer jsonAdaptedBuyer : buyers) {
-            Buyer buyer = jsonAdaptedBuyer.toModelType();
-            if (addressBook.hasBuyer(buyer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_BUYER);
-            }
-            addressBook.addBuyer(buyer);
+            modelBuyers.add(jsonAdaptedBuyer.toModelType());
+        }
+        return modelBuyers;
+    }
+
+    /**
+     * Returns an address book holding {@code modelBuyers}.
+     *
+     * @throws IllegalValueException if {@code modelBuyers} contains duplicate buyers.
+     */
+    static BuyerAddressBook toAddressBook(List<Buyer> modelBuyers) throws IllegalValueException {
+        BuyerAddressBook addressBook = new BuyerAddressBook();
+        try {
+            addressBook.setBuyers(modelBuyers);
+        } catch (DuplicateClientException e) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_BUYER,
+                    DuplicateClientException.joinNames(e.getDuplicateNames())));
         }
         return addressBook;
     }
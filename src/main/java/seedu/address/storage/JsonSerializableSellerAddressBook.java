@@ -5,12 +5,14 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlySellerAddressBook;
 import seedu.address.model.SellerAddressBook;
+import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.model.seller.Seller;
 
 /**
@@ -19,16 +21,25 @@ import seedu.address.model.seller.Seller;
 @JsonRootName(value = "sellerAddressbook")
 class JsonSerializableSellerAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_SELLER = "seller list contains duplicate seller(s).";
+    public static final String SELLERS_FIELD = "sellers";
+    public static final String MESSAGE_DUPLICATE_SELLER = "seller list contains duplicate seller(s): %1$s";
 
     private final List<JsonAdaptedSeller> sellers = new ArrayList<>();
 
+    /**
+     * The sequence of the last journal record folded into this snapshot, or 0 if none was.
+     */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given sellers.
      */
     @JsonCreator
-    public JsonSerializableSellerAddressBook(@JsonProperty("sellers") List<JsonAdaptedSeller> sellers) {
+    public JsonSerializableSellerAddressBook(@JsonProperty(SELLERS_FIELD) List<JsonAdaptedSeller> sellers,
+            @JsonProperty(JsonSnapshotReader.JOURNAL_SEQUENCE_FIELD) long journalSequence) {
         this.sellers.addAll(sellers);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -37,7 +48,20 @@ class JsonSerializableSellerAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableSellerAddressBook}.
      */
     public JsonSerializableSellerAddressBook(ReadOnlySellerAddressBook source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, as a snapshot that has folded in
+     * the journal records up to {@code journalSequence}.
+     */
+    public JsonSerializableSellerAddressBook(ReadOnlySellerAddressBook source, long journalSequence) {
         sellers.addAll(source.getSellerList().stream().map(JsonAdaptedSeller::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
@@ -46,13 +70,34 @@ class JsonSerializableSellerAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public SellerAddressBook toModelType() throws IllegalValueException {
-        SellerAddressBook addressBook = new SellerAddressBook();
+        return toAddressBook(toModelList());
+    }
+
+    /**
+     * Converts the sellers in this address book into the model's {@code Seller} objects, in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in a seller.
+     */
+    public List<Seller> toModelList() throws IllegalValueException {
+        List<Seller> modelSellers = new ArrayList<>(sellers.size());
         for (JsonAdaptedSeller jsonAdaptedSeller : sellers) {
-            Seller seller = jsonAdaptedSeller.toModelType();
-            if (addressBook.hasSeller(seller)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SELLER);
-            }
-            addressBook.addSeller(seller);
+            modelSellers.add(jsonAdaptedSeller.toModelType());
+        }
+        return modelSellers;
+    }
+
+    /**
+     * Returns an address book holding {@code modelSellers}.
+     *
+     * @throws IllegalValueException if {@code modelSellers} contains duplicate sellers.
+     */
+    static SellerAddressBook toAddressBook(List<Seller> modelSellers) throws IllegalValueException {
+        SellerAddressBook addressBook = new SellerAddressBook();
+        try {
+            addressBook.setSellers(modelSellers);
+        } catch (DuplicateClientException e) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_SELLER,
+                    DuplicateClientException.joinNames(e.getDuplicateNames())));
         }
         return addressBook;
     }
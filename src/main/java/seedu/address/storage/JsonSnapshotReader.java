@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Reads an address book file, as written from a {@code JsonSerializableSellerAddressBook} or a
+ * {@code JsonSerializableBuyerAddressBook}, one client at a time.
+ * Each client is converted into a model object as soon as it is parsed, so the whole file is never held as a string
+ * or as a list of Jackson-friendly clients. Fields other than the clients and the journal sequence are skipped.
+ */
+class JsonSnapshotReader<T> {
+
+    /**
+     * Converts a Jackson-friendly client into the model's client.
+     */
+    @FunctionalInterface
+    interface ToModel<J, T> {
+        T toModelType(J adapted) throws IllegalValueException;
+    }
+
+    public static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSnapshotReader.class);
+
+    private final List<T> clients = new ArrayList<>();
+    private long journalSequence;
+
+    private JsonSnapshotReader() {}
+
+    /**
+     * Reads the clients in the array field {@code clientsField} of the address book in {@code filePath}, parsing each
+     * as {@code adaptedClass} and converting it with {@code toModel}, or returns an empty {@code Optional} if the
+     * file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in a client.
+     */
+    static <J, T> Optional<JsonSnapshotReader<T>> read(Path filePath, String clientsField, Class<J> adaptedClass,
+            ToModel<J, T> toModel) throws DataConversionException, IllegalValueException {
+        requireAllNonNull(filePath, clientsField, adaptedClass, toModel);
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        JsonSnapshotReader<T> reader = new JsonSnapshotReader<>();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals(clientsField) && value != JsonToken.VALUE_NULL) {
+                    expect(value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        reader.clients.add(toModel.toModelType(parser.readValueAs(adaptedClass)));
+                    }
+                } else if (field.equals(JOURNAL_SEQUENCE_FIELD)) {
+                    reader.journalSequence = parser.getValueAsLong();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser.getCurrentToken(), JsonToken.END_OBJECT);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return Optional.of(reader);
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Returns the clients read, in the order they are in the file.
+     */
+    List<T> getClients() {
+        return clients;
+    }
+
+    /**
+     * Returns the sequence of the last journal record folded into the file, or 0 if none was.
+     */
+    long getJournalSequence() {
+        return journalSequence;
+    }
+}
@@ -31,6 +31,13 @@ public interface Storage extends SellerAddressBookStorage,
     @Override
     void saveSellerAddressBook(ReadOnlySellerAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook} like {@link #saveSellerAddressBook(ReadOnlySellerAddressBook)}, and runs
+     * {@code onSaved} once it has been written, which may be on another thread.
+     * {@code onSaved} is not run if the save fails or is replaced by a newer save.
+     */
+    void saveSellerAddressBook(ReadOnlySellerAddressBook addressBook, Runnable onSaved) throws IOException;
+
     @Override
     Path getBuyerAddressBookFilePath();
 
@@ -39,4 +46,18 @@ public interface Storage extends SellerAddressBookStorage,
 
     @Override
     void saveBuyerAddressBook(ReadOnlyBuyerAddressBook addressBook) throws IOException;
+
+    /**
+     * Saves {@code addressBook} like {@link #saveBuyerAddressBook(ReadOnlyBuyerAddressBook)}, and runs
+     * {@code onSaved} once it has been written, which may be on another thread.
+     * {@code onSaved} is not run if the save fails or is replaced by a newer save.
+     */
+    void saveBuyerAddressBook(ReadOnlyBuyerAddressBook addressBook, Runnable onSaved) throws IOException;
+
+    /**
+     * Tries failed address book saves again and waits until every save requested so far has been written.
+     *
+     * @throws IOException if a save is still failing.
+     */
+    void flush() throws IOException;
 }
@@ -5,15 +5,22 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyBuyerAddressBook;
 import seedu.address.model.ReadOnlySellerAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.seller.Seller;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Address books are saved from a snapshot taken when the save is requested, on a background thread, and only the
+ * newest snapshot of each file is written if several saves are requested before the previous one finishes.
+ * A save that fails is tried again by the next save or flush.
  */
 public class StorageManager implements Storage {
 
@@ -21,15 +28,31 @@ public class StorageManager implements Storage {
     private UserPrefsStorage userPrefsStorage;
     private SellerAddressBookStorage sellerAddressBookStorage;
     private BuyerAddressBookStorage buyerAddressBookStorage;
+    private CoalescingWriter writer;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Address books are saved on a background thread.
      */
     public StorageManager(UserPrefsStorage userPrefsStorage, SellerAddressBookStorage sellerAddressBookStorage,
                           BuyerAddressBookStorage buyerAddressBookStorage) {
+        this(userPrefsStorage, sellerAddressBookStorage, buyerAddressBookStorage, new CoalescingWriter());
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves address books through {@code writer}.
+     */
+    public StorageManager(UserPrefsStorage userPrefsStorage, SellerAddressBookStorage sellerAddressBookStorage,
+                          BuyerAddressBookStorage buyerAddressBookStorage, CoalescingWriter writer) {
         this.userPrefsStorage = userPrefsStorage;
         this.sellerAddressBookStorage = sellerAddressBookStorage;
         this.buyerAddressBookStorage = buyerAddressBookStorage;
+        this.writer = writer;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
     }
 
     // ================ UserPrefs methods ==============================
@@ -59,6 +82,7 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlySellerAddressBook> readSellerAddressBook(Path filePath)
             throws DataConversionException, IOException {
+        flush();
         logger.fine("Attempting to read seller data from file: " + filePath);
         return sellerAddressBookStorage.readSellerAddressBook(filePath);
     }
@@ -70,8 +94,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveSellerAddressBook(ReadOnlySellerAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to seller data file: " + filePath);
-        sellerAddressBookStorage.saveSellerAddressBook(addressBook, filePath);
+        saveSellerAddressBook(addressBook, filePath, () -> {});
     }
 
     @Override
@@ -79,6 +102,22 @@ public class StorageManager implements Storage {
         saveSellerAddressBook(addressBook, sellerAddressBookStorage.getSellerAddressBookFilePath());
     }
 
+    @Override
+    public void saveSellerAddressBook(ReadOnlySellerAddressBook addressBook, Runnable onSaved) throws IOException {
+        saveSellerAddressBook(addressBook, sellerAddressBookStorage.getSellerAddressBookFilePath(), onSaved);
+    }
+
+    private void saveSellerAddressBook(ReadOnlySellerAddressBook addressBook, Path filePath, Runnable onSaved)
+            throws IOException {
+        ObservableList<Seller> snapshot = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getSellerList()));
+        writer.submit(filePath, () -> {
+            logger.fine("Attempting to write to seller data file: " + filePath);
+            sellerAddressBookStorage.saveSellerAddressBook(() -> snapshot, filePath);
+            onSaved.run();
+        });
+    }
+
     // ================ BuyerAddressBook methods ==============================
 
     @Override
@@ -89,6 +128,7 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyBuyerAddressBook> readBuyerAddressBook(Path filePath)
             throws DataConversionException, IOException {
+        flush();
         logger.fine("Attempting to read buyer data from file: " + filePath);
         return buyerAddressBookStorage.readBuyerAddressBook(filePath);
     }
@@ -100,8 +140,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveBuyerAddressBook(ReadOnlyBuyerAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to buyer data file: " + filePath);
-        buyerAddressBookStorage.saveBuyerAddressBook(addressBook, filePath);
+        saveBuyerAddressBook(addressBook, filePath, () -> {});
     }
 
     @Override
@@ -109,4 +148,20 @@ public class StorageManager implements Storage {
         saveBuyerAddressBook(addressBook, buyerAddressBookStorage.getBuyerAddressBookFilePath());
     }
 
+    @Override
+    public void saveBuyerAddressBook(ReadOnlyBuyerAddressBook addressBook, Runnable onSaved) throws IOException {
+        saveBuyerAddressBook(addressBook, buyerAddressBookStorage.getBuyerAddressBookFilePath(), onSaved);
+    }
+
+    private void saveBuyerAddressBook(ReadOnlyBuyerAddressBook addressBook, Path filePath, Runnable onSaved)
+            throws IOException {
+        ObservableList<Buyer> snapshot = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getBuyerList()));
+        writer.submit(filePath, () -> {
+            logger.fine("Attempting to write to buyer data file: " + filePath);
+            buyerAddressBookStorage.saveBuyerAddressBook(() -> snapshot, filePath);
+            onSaved.run();
+        });
+    }
+
 }
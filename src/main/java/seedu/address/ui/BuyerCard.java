@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import java.util.Comparator;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableIntegerValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -48,11 +50,13 @@ public class BuyerCard extends UiPart<Region> {
     private Label propertyLowerPrice;
     @FXML
     private Label propertyUpperPrice;
+    @FXML
+    private Label matchCount;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code BuyerCard} with the given {@code Buyer}, index to display, and live number of matching sellers.
      */
-    public BuyerCard(Buyer buyer, int displayedIndex) {
+    public BuyerCard(Buyer buyer, int displayedIndex, ObservableIntegerValue sellerMatchCount) {
         super(FXML);
         this.client = buyer;
         id.setText(displayedIndex + ". ");
@@ -70,11 +74,13 @@ public class BuyerCard extends UiPart<Region> {
             propertyType.setText("no property added yet");
             propertyLocation.setText("-");
             propertyLowerPrice.setText("");
+            matchCount.setText("-");
         } else {
             propertyType.setText(houseType);
             propertyLocation.setText(houseLocation);
             propertyLowerPrice.setText(houseLowerPrice);
             propertyUpperPrice.setText(houseUpperPrice);
+            matchCount.textProperty().bind(Bindings.convert(sellerMatchCount));
         }
 
     }
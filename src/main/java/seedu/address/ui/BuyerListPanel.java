@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableIntegerValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,11 +22,16 @@ public class BuyerListPanel extends UiPart<Region> {
     @FXML
     private ListView<Buyer> clientListView;
 
+    private final Function<Buyer, ? extends ObservableIntegerValue> matchCountOf;
+
     /**
-     * Creates a {@code clientListPanel} with the given {@code ObservableList}.
+     * Creates a {@code clientListPanel} with the given {@code ObservableList}, showing the number of sellers matching
+     * each buyer as given by {@code matchCountOf}.
      */
-    public BuyerListPanel(ObservableList<Buyer> clientList) {
+    public BuyerListPanel(ObservableList<Buyer> clientList,
+                          Function<Buyer, ? extends ObservableIntegerValue> matchCountOf) {
         super(FXML);
+        this.matchCountOf = matchCountOf;
         clientListView.setItems(clientList);
         clientListView.setCellFactory(listView -> new ClientListViewCell());
     }
@@ -41,7 +48,7 @@ public class BuyerListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new BuyerCard(client, getIndex() + 1).getRoot());
+                setGraphic(new BuyerCard(client, getIndex() + 1, matchCountOf.apply(client)).getRoot());
             }
         }
     }
@@ -117,7 +117,7 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        buyerListPanel = new BuyerListPanel(logic.getFilteredBuyerList());
+        buyerListPanel = new BuyerListPanel(logic.getFilteredBuyerList(), logic::getMatchCount);
         clientListPanelPlaceholder.getChildren().add(buyerListPanel.getRoot());
 
         sellerListPanel = new SellerListPanel(logic.getFilteredSellerList());
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Durability;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,28 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutLeavingTempFile() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content that is longer than the new one");
+
+        // a temp file left behind by an earlier crash is written over
+        Files.write(testFolder.resolve("data.json.tmp"), "partly written".getBytes());
+        FileUtil.writeToFile(file, "new", Durability.SYNCED);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void appendToFile_missingFile_createsAndAppends() throws Exception {
+        Path file = testFolder.resolve("data.journal");
+        FileUtil.appendToFile(file, "a\n".getBytes(), Durability.SYNCED);
+        FileUtil.appendToFile(file, "b\n".getBytes(), Durability.ATOMIC);
+
+        assertEquals("a\nb\n", FileUtil.readFromFile(file));
+    }
+
 }
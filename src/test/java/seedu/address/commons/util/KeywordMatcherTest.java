@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_invalidKeywords_throwsException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(List.of("  ")));
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(List.of("aaa BBB")));
+    }
+
+    @Test
+    public void isFoundIn_noKeywords_returnsFalse() {
+        KeywordMatcher matcher = new KeywordMatcher(Collections.emptyList());
+
+        assertFalse(matcher.isFoundIn(""));
+        assertFalse(matcher.isFoundIn("alice pauline"));
+    }
+
+    @Test
+    public void isFoundIn_keywordsIgnoringCase_returnsTrueIfAnyAppears() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("Kunz", "  ELLE ", "ali"));
+
+        assertTrue(matcher.isFoundIn("alice pauline"));
+        assertTrue(matcher.isFoundIn("fiona kunz"));
+        assertTrue(matcher.isFoundIn("michelle"));
+        assertFalse(matcher.isFoundIn("carl kurz"));
+        assertFalse(matcher.isFoundIn(""));
+    }
+
+    @Test
+    public void isFoundIn_keywordAfterPartialMatchOfAnother_returnsTrue() {
+        // "abcd" fails at its last character, where "bce" has to pick up from the shared "bc"
+        KeywordMatcher matcher = new KeywordMatcher(List.of("abcd", "bce", "c"));
+
+        assertTrue(matcher.isFoundIn("xabce"));
+        assertTrue(new KeywordMatcher(List.of("abcd", "bce")).isFoundIn("xabce"));
+        assertFalse(new KeywordMatcher(List.of("abcd", "bce")).isFoundIn("xabcx"));
+    }
+
+    @Test
+    public void isFoundIn_randomKeywords_sameAsContains() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(12); i++) {
+                keywords.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+            String text = randomText(random, random.nextInt(20));
+
+            boolean expected = keywords.stream().anyMatch(text::contains);
+            assertEquals(expected, matcher.isFoundIn(text), keywords + " in " + text);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toSearchKey --------------------------------------
+
+    @Test
+    public void toSearchKey_invalidWord_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKey(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.toSearchKey("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.toSearchKey("aaa BBB"));
+    }
+
+    @Test
+    public void toSearchKey_validWord_trimmedAndLowerCased() {
+        assertEquals("ccc@1", StringUtil.toSearchKey("  CCc@1 "));
+        assertTrue("aaa bbb ccc".contains(StringUtil.toSearchKey("bBB")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,10 +1,14 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSellers.ALICE;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,13 +16,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListSellerCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.BuyerAddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlySellerAddressBook;
 import seedu.address.model.SellerAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.CoalescingWriter;
 import seedu.address.storage.JsonBuyerAddressBookStorage;
 import seedu.address.storage.JsonSellerAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -31,6 +38,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -40,7 +48,7 @@ public class LogicManagerTest {
                 temporaryFolder.resolve("selleraddressbook.json"));
         JsonBuyerAddressBookStorage buyerAddressBookStorage = new JsonBuyerAddressBookStorage(
                 temporaryFolder.resolve("buyeraddressbook.json"));
-        StorageManager storage = new StorageManager(userPrefsStorage, sellerAddressBookStorage,
+        storage = new StorageManager(userPrefsStorage, sellerAddressBookStorage,
                 buyerAddressBookStorage);
         logic = new LogicManager(model, storage);
     }
@@ -61,6 +69,59 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredSellerList().remove(0));
     }
 
+    @Test
+    public void execute_readOnlyCommand_onlySavesChangedAddressBooks() throws Exception {
+        Path sellerFile = temporaryFolder.resolve("selleraddressbook.json");
+        Path buyerFile = temporaryFolder.resolve("buyeraddressbook.json");
+
+        // both address books are saved after the first command
+        logic.execute(ListSellerCommand.COMMAND_WORD);
+        storage.flush();
+        assertTrue(Files.exists(sellerFile));
+        assertTrue(Files.exists(buyerFile));
+
+        // unchanged address books are not saved again
+        Files.delete(sellerFile);
+        Files.delete(buyerFile);
+        logic.execute(ListSellerCommand.COMMAND_WORD);
+        storage.flush();
+        assertFalse(Files.exists(sellerFile));
+        assertFalse(Files.exists(buyerFile));
+
+        // only the changed address book is saved
+        model.addSeller(ALICE);
+        logic.execute(ListSellerCommand.COMMAND_WORD);
+        storage.flush();
+        assertTrue(Files.exists(sellerFile));
+        assertFalse(Files.exists(buyerFile));
+    }
+
+    @Test
+    public void execute_saveFailed_savesAgainOnNextCommand() throws Exception {
+        Path sellerFile = temporaryFolder.resolve("failing.json");
+        Path buyerFile = temporaryFolder.resolve("buyeraddressbook.json");
+        JsonSellerAddressBookFailingStub sellerAddressBookStorage = new JsonSellerAddressBookFailingStub(sellerFile);
+        StorageManager failingStorage = new StorageManager(
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), sellerAddressBookStorage,
+                new JsonBuyerAddressBookStorage(buyerFile), new CoalescingWriter(Runnable::run));
+        logic = new LogicManager(model, failingStorage);
+
+        // the failed seller save is reported once the buyer address book is saved
+        sellerAddressBookStorage.isFailing = true;
+        model.addSeller(ALICE);
+        assertThrows(CommandException.class, LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, () ->
+                logic.execute(ListSellerCommand.COMMAND_WORD));
+        assertFalse(Files.exists(sellerFile));
+        assertTrue(Files.exists(buyerFile));
+
+        // the seller address book is saved again although it did not change since
+        sellerAddressBookStorage.isFailing = false;
+        logic.execute(ListSellerCommand.COMMAND_WORD);
+        failingStorage.flush();
+        assertEquals(model.getSellerAddressBook(),
+                new SellerAddressBook(new JsonSellerAddressBookStorage(sellerFile).readSellerAddressBook().get()));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -115,4 +176,23 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class that throws an {@code IOException} when its save method is called while it is failing.
+     */
+    private static class JsonSellerAddressBookFailingStub extends JsonSellerAddressBookStorage {
+        private boolean isFailing;
+
+        private JsonSellerAddressBookFailingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSellerAddressBook(ReadOnlySellerAddressBook sellerAddressBook, Path filePath)
+                throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveSellerAddressBook(sellerAddressBook, filePath);
+        }
+    }
 }
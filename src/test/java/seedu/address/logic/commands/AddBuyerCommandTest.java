@@ -12,6 +12,7 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -22,6 +23,9 @@ import seedu.address.model.ReadOnlyBuyerAddressBook;
 import seedu.address.model.ReadOnlySellerAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.client.Phone;
+import seedu.address.model.match.MatchPairList;
+import seedu.address.model.match.TopKMatcher.ScoredMatch;
 //import seedu.address.model.client.Client;
 import seedu.address.model.seller.Seller;
 import seedu.address.testutil.BuyerBuilder;
@@ -66,6 +70,19 @@ public class AddBuyerCommandTest {
                 .execute(modelStub));
     }
 
+    @Test
+    public void execute_sharedPhone_addSuccessfulWithNote() throws Exception {
+        ModelStubAcceptingBuyerAdded modelStub = new ModelStubAcceptingBuyerAdded();
+        new AddBuyerCommand(new BuyerBuilder().withName("Janald").withPhone("91234567").build()).execute(modelStub);
+        Buyer junheng = new BuyerBuilder().withName("Junheng").withPhone("91234567").build();
+
+        CommandResult commandResult = new AddBuyerCommand(junheng).execute(modelStub);
+
+        assertEquals(String.format(AddBuyerCommand.MESSAGE_SUCCESS, junheng) + "\n"
+                + AddBuyerCommand.MESSAGE_SHARED_PHONE, commandResult.getFeedbackToUser());
+        assertEquals(2, modelStub.buyersAdded.size());
+    }
+
     @Test
     public void equals() {
         Buyer janald = new BuyerBuilder().withName("Janald").build();
@@ -124,15 +141,40 @@ public class AddBuyerCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public boolean hasBuyerPhone(Phone phone) {
+            throw new AssertionError("This method should not be called");
+        }
+
         @Override
         public boolean hasSeller(Seller seller) {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public boolean hasSellerPhone(Phone phone) {
+            throw new AssertionError("This method should not be called");
+        }
+
         @Override
         public void sortFilteredBuyerList(String comparedItem, String order) {
             throw new AssertionError("This method should not be called");
         }
+
+        @Override
+        public MatchPairList getAllMatches() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyIntegerProperty getMatchCount(Buyer buyer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScoredMatch> getTopMatches(Buyer buyer, int k) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public void addBuyer(Buyer buyer) {
             throw new AssertionError("This method should not be called.");
@@ -168,6 +210,11 @@ public class AddBuyerCommandTest {
             return null;
         }
 
+        @Override
+        public long getSellerAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSeller(Seller target) {
 
@@ -188,6 +235,16 @@ public class AddBuyerCommandTest {
 
         }
 
+        @Override
+        public void updateFilteredSellerListToMatch(Buyer buyer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredSellerListToTopMatches(List<ScoredMatch> topMatches) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // ======== Buyer ====== //
         @Override
         public Path getBuyerAddressBookFilePath() {
@@ -209,6 +266,11 @@ public class AddBuyerCommandTest {
             return null;
         }
 
+        @Override
+        public long getBuyerAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteBuyer(Buyer target) {
 
@@ -260,6 +322,12 @@ public class AddBuyerCommandTest {
             return buyersAdded.stream().anyMatch(buyer::isSameclient);
         }
 
+        @Override
+        public boolean hasBuyerPhone(Phone phone) {
+            requireNonNull(phone);
+            return buyersAdded.stream().anyMatch(buyer -> buyer.getPhone().equals(phone));
+        }
+
         @Override
         public void addBuyer(Buyer buyer) {
             requireNonNull(buyer);
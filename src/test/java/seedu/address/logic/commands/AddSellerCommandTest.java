@@ -12,6 +12,7 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -23,6 +24,9 @@ import seedu.address.model.ReadOnlySellerAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.buyer.Buyer;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.Phone;
+import seedu.address.model.match.MatchPairList;
+import seedu.address.model.match.TopKMatcher.ScoredMatch;
 import seedu.address.model.seller.Seller;
 import seedu.address.testutil.SellerBuilder;
 
@@ -54,6 +58,19 @@ public class AddSellerCommandTest {
                 .execute(modelStub));
     }
 
+    @Test
+    public void execute_sharedPhone_addSuccessfulWithNote() throws Exception {
+        ModelStubAcceptingSellerAdded modelStub = new ModelStubAcceptingSellerAdded();
+        new AddSellerCommand(new SellerBuilder().withName("Janald").withPhone("91234567").build()).execute(modelStub);
+        Seller junheng = new SellerBuilder().withName("Junheng").withPhone("91234567").build();
+
+        CommandResult commandResult = new AddSellerCommand(junheng).execute(modelStub);
+
+        assertEquals(String.format(AddSellerCommand.MESSAGE_SUCCESS, junheng) + "\n"
+                + AddSellerCommand.MESSAGE_SHARED_PHONE, commandResult.getFeedbackToUser());
+        assertEquals(2, modelStub.clientsAdded.size());
+    }
+
     @Test
     public void equals() {
         Seller janald = new SellerBuilder().withName("Janald").build();
@@ -107,11 +124,21 @@ public class AddSellerCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public boolean hasBuyerPhone(Phone phone) {
+            throw new AssertionError("This method should not be called");
+        }
+
         @Override
         public boolean hasSeller(Seller seller) {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public boolean hasSellerPhone(Phone phone) {
+            throw new AssertionError("This method should not be called");
+        }
+
         @Override
         public void addBuyer(Buyer buyer) {
             throw new AssertionError("This method should not be called.");
@@ -142,6 +169,11 @@ public class AddSellerCommandTest {
             return null;
         }
 
+        @Override
+        public long getSellerAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSeller(Seller target) {
 
@@ -162,6 +194,16 @@ public class AddSellerCommandTest {
 
         }
 
+        @Override
+        public void updateFilteredSellerListToMatch(Buyer buyer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredSellerListToTopMatches(List<ScoredMatch> topMatches) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredSellerList(String comparator, String order) {
             throw new AssertionError("This method should not be called");
@@ -174,6 +216,21 @@ public class AddSellerCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public MatchPairList getAllMatches() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyIntegerProperty getMatchCount(Buyer buyer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScoredMatch> getTopMatches(Buyer buyer, int k) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getBuyerAddressBookFilePath() {
             return null;
@@ -194,6 +251,11 @@ public class AddSellerCommandTest {
             return null;
         }
 
+        @Override
+        public long getBuyerAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteBuyer(Buyer target) {
 
@@ -245,6 +307,12 @@ public class AddSellerCommandTest {
             return clientsAdded.stream().anyMatch(seller::isSameclient);
         }
 
+        @Override
+        public boolean hasSellerPhone(Phone phone) {
+            requireNonNull(phone);
+            return clientsAdded.stream().anyMatch(client -> client.getPhone().equals(phone));
+        }
+
         @Override
         public void addSeller(Seller seller) {
             requireNonNull(seller);
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalSellers.getTypicalSellerAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,10 +18,15 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 //import seedu.address.model.SellerAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.index.AllOfPredicate;
+import seedu.address.model.index.AnyOfPredicate;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.seller.Seller;
 import seedu.address.model.seller.SellerHouseTypeContainsKeywordsPredicate;
 import seedu.address.model.seller.SellerLocationContainsKeywordsPredicate;
 import seedu.address.model.seller.SellerNameContainsKeywordsPredicate;
 import seedu.address.model.seller.SellerPhoneContainsKeywordsPredicate;
+import seedu.address.model.seller.SellerTagsContainsKeywordsPredicate;
 import seedu.address.testutil.TypicalSellers;
 
 /**
@@ -111,6 +117,19 @@ public class FindSellerCommandTest {
         //assertEquals(Arrays.asList(TypicalSellers.BENSON), model.getFilteredSellerList());
     }
 
+    @Test
+    public void execute_compoundQuery_sellersMatchingAnyGroupFound() {
+        String expectedMessage = String.format(MESSAGE_SELLERS_LISTED_OVERVIEW, 5);
+        IndexedPredicate<Seller> predicate = new AnyOfPredicate<>(List.of(
+                new AllOfPredicate<>(List.of(prepareLocationPredicate("bishan"),
+                        prepareHouseTypePredicate("bungalow"))),
+                new SellerTagsContainsKeywordsPredicate(List.of("owes"))));
+        FindSellerCommand command = new FindSellerCommand(predicate);
+        expectedModel.updateFilteredSellerList(predicate);
+        SellerCommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalSellers.ALICE, TypicalSellers.BENSON, TypicalSellers.DANIEL,
+                TypicalSellers.FIONA, TypicalSellers.GEORGE), model.getFilteredSellerList());
+    }
 
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.BuyerCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.BuyerCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BuyerAddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TypicalBuyers;
+import seedu.address.testutil.TypicalSellers;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code MatchAllCommand}.
+ */
+public class MatchAllCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(new UserPrefs(),
+        TypicalSellers.getTypicalSellerAddressBook(), TypicalBuyers.getTypicalBuyerAddressBook());
+    private Model expectedModel = new ModelManager(new UserPrefs(),
+        TypicalSellers.getTypicalSellerAddressBook(), TypicalBuyers.getTypicalBuyerAddressBook());
+
+    @Test
+    public void execute_firstPage_listsAllMatches() {
+        String expectedMessage = String.format(MatchAllCommand.MESSAGE_MATCHES_FOUND, 4, 1, 1)
+            + "\n" + String.format(MatchAllCommand.MESSAGE_MATCH, 1, "Carl Kurz", "Alice Pauline")
+            + "\n" + String.format(MatchAllCommand.MESSAGE_MATCH, 2, "Carl Kurz", "Benson Meier")
+            + "\n" + String.format(MatchAllCommand.MESSAGE_MATCH, 3, "Carl Kurz", "Fiona Kunz")
+            + "\n" + String.format(MatchAllCommand.MESSAGE_MATCH, 4, "Carl Kurz", "George Best");
+
+        assertCommandSuccess(new MatchAllCommand(Index.fromOneBased(1)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_file_writesAllMatches() throws Exception {
+        Path file = testFolder.resolve("out").resolve("matches.csv");
+        FileUtil.createParentDirsOfFile(file);
+        FileUtil.writeToFile(file, "old content\nold content\nold content\nold content\nold content\n");
+
+        assertCommandSuccess(new MatchAllCommand(file), model,
+            String.format(MatchAllCommand.MESSAGE_MATCHES_WRITTEN, 4, file), expectedModel);
+
+        String carl = "Carl Kurz," + TypicalBuyers.CARL.getPhone().value + ",";
+        assertEquals("buyer,buyer phone,seller,seller phone\n"
+            + carl + "Alice Pauline," + TypicalSellers.ALICE.getPhone().value + "\n"
+            + carl + "Benson Meier," + TypicalSellers.BENSON.getPhone().value + "\n"
+            + carl + "Fiona Kunz," + TypicalSellers.FIONA.getPhone().value + "\n"
+            + carl + "George Best," + TypicalSellers.GEORGE.getPhone().value + "\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void execute_fileIsDirectory_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new MatchAllCommand(testFolder).execute(model));
+    }
+
+    @Test
+    public void execute_noMatches_success() {
+        Model modelWithoutBuyers = new ModelManager(new UserPrefs(),
+            TypicalSellers.getTypicalSellerAddressBook(), new BuyerAddressBook());
+        Model expectedModelWithoutBuyers = new ModelManager(new UserPrefs(),
+            TypicalSellers.getTypicalSellerAddressBook(), new BuyerAddressBook());
+
+        assertCommandSuccess(new MatchAllCommand(Index.fromOneBased(1)), modelWithoutBuyers,
+            MatchAllCommand.MESSAGE_NO_MATCHES, expectedModelWithoutBuyers);
+    }
+
+    @Test
+    public void execute_pageOutOfRange_failure() {
+        assertCommandFailure(new MatchAllCommand(Index.fromOneBased(2)), model,
+            String.format(MatchAllCommand.MESSAGE_INVALID_PAGE, 1));
+    }
+
+    @Test
+    public void equals() {
+        MatchAllCommand firstPageCommand = new MatchAllCommand(Index.fromOneBased(1));
+        MatchAllCommand secondPageCommand = new MatchAllCommand(Index.fromOneBased(2));
+
+        // same object -> returns true
+        assertTrue(firstPageCommand.equals(firstPageCommand));
+
+        // same values -> returns true
+        assertTrue(firstPageCommand.equals(new MatchAllCommand(Index.fromOneBased(1))));
+
+        // different types -> returns false
+        assertFalse(firstPageCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPageCommand.equals(null));
+
+        // different page -> returns false
+        assertFalse(firstPageCommand.equals(secondPageCommand));
+
+        // same file -> returns true
+        MatchAllCommand fileCommand = new MatchAllCommand(Paths.get("matches.csv"));
+        assertTrue(fileCommand.equals(new MatchAllCommand(Paths.get("matches.csv"))));
+
+        // different file -> returns false
+        assertFalse(fileCommand.equals(new MatchAllCommand(Paths.get("other.csv"))));
+
+        // file instead of page -> returns false
+        assertFalse(firstPageCommand.equals(fileCommand));
+    }
+}
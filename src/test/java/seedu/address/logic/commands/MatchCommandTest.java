@@ -16,6 +16,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.match.TopKMatcher;
 import seedu.address.model.seller.AllFieldsMatchBuyerPredicate;
 import seedu.address.testutil.TypicalBuyers;
 import seedu.address.testutil.TypicalSellers;
@@ -55,6 +56,25 @@ public class MatchCommandTest {
         assertCommandSuccess(matchCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_topMatches_showsBestSellersFirst() {
+        MatchCommand matchCommand = new MatchCommand(INDEX_THIRD_BUYER, 2);
+
+        // ALICE, BENSON and GEORGE tie on the most overlap with the buyer's price range, and are ranked by name
+        Buyer buyerToMatch = model.getFilteredBuyerList().get(INDEX_THIRD_BUYER.getZeroBased());
+        double topScore = TopKMatcher.score(buyerToMatch, TypicalSellers.ALICE);
+        String expectedMessage = String.format(MatchCommand.MESSAGE_TOP_MATCHES, 2)
+            + "\n" + String.format(MatchCommand.MESSAGE_TOP_MATCH, 1, TypicalSellers.ALICE.getName(), topScore)
+            + "\n" + String.format(MatchCommand.MESSAGE_TOP_MATCH, 2, TypicalSellers.BENSON.getName(), topScore);
+
+        ModelManager expectedModel = new ModelManager(new UserPrefs(), TypicalSellers.getTypicalSellerAddressBook(),
+            TypicalBuyers.getTypicalBuyerAddressBook());
+        expectedModel.updateFilteredSellerList(seller -> seller.equals(TypicalSellers.ALICE)
+            || seller.equals(TypicalSellers.BENSON));
+
+        assertCommandSuccess(matchCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_noPropertyAdded_failure() {
         Buyer buyerToMatch = model.getFilteredBuyerList().get(INDEX_FORTH_BUYER.getZeroBased());
@@ -92,5 +112,9 @@ public class MatchCommandTest {
 
         // different command -> returns false
         assertFalse(matchFirstCommand.equals(matchThirdCommand));
+
+        // different top count -> returns false
+        assertFalse(matchFirstCommand.equals(new MatchCommand(firstIndex, 3)));
+        assertTrue(new MatchCommand(firstIndex, 3).equals(new MatchCommand(secondIndex, 3)));
     }
 }
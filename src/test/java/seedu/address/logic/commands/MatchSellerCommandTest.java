@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.BuyerCommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.BuyerCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SELLER;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_SELLER;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SellerAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.buyer.AllFieldsMatchSellerPredicate;
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.SellerBuilder;
+import seedu.address.testutil.TypicalBuyers;
+import seedu.address.testutil.TypicalSellers;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code MatchSellerCommand}.
+ */
+public class MatchSellerCommandTest {
+
+    private Model model = new ModelManager(new UserPrefs(),
+        TypicalSellers.getTypicalSellerAddressBook(), TypicalBuyers.getTypicalBuyerAddressBook());
+
+    @Test
+    public void execute_validIndexUnfilteredList_success() {
+        Seller sellerToMatch = model.getFilteredSellerList().get(INDEX_FIRST_SELLER.getZeroBased());
+
+        MatchSellerCommand matchSellerCommand = new MatchSellerCommand(INDEX_FIRST_SELLER);
+
+        String expectedMessage = String.format(Messages.MESSAGE_BUYERS_LISTED_OVERVIEW, 1);
+
+        ModelManager expectedModel = new ModelManager(new UserPrefs(), TypicalSellers.getTypicalSellerAddressBook(),
+            TypicalBuyers.getTypicalBuyerAddressBook());
+        expectedModel.updateFilteredBuyerList(new AllFieldsMatchSellerPredicate(sellerToMatch));
+
+        assertCommandSuccess(matchSellerCommand, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(TypicalBuyers.CARL), model.getFilteredBuyerList());
+    }
+
+    @Test
+    public void execute_noMatchingBuyers_success() {
+        Seller sellerToMatch = model.getFilteredSellerList().get(INDEX_THIRD_SELLER.getZeroBased());
+
+        MatchSellerCommand matchSellerCommand = new MatchSellerCommand(INDEX_THIRD_SELLER);
+
+        String expectedMessage = String.format(Messages.MESSAGE_BUYERS_LISTED_OVERVIEW, 0);
+
+        ModelManager expectedModel = new ModelManager(new UserPrefs(), TypicalSellers.getTypicalSellerAddressBook(),
+            TypicalBuyers.getTypicalBuyerAddressBook());
+        expectedModel.updateFilteredBuyerList(new AllFieldsMatchSellerPredicate(sellerToMatch));
+
+        assertCommandSuccess(matchSellerCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredSellerList().size() + 1);
+
+        assertCommandFailure(new MatchSellerCommand(outOfBoundIndex), model,
+            Messages.MESSAGE_INVALID_SELLER_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noPropertyAdded_failure() {
+        SellerAddressBook sellerAddressBook = new SellerAddressBook();
+        sellerAddressBook.addSeller(new SellerBuilder()
+            .withProperty(NullPropertyToSell.getNullPropertyToSell()).build());
+        Model modelWithoutProperty = new ModelManager(new UserPrefs(), sellerAddressBook,
+            TypicalBuyers.getTypicalBuyerAddressBook());
+
+        assertCommandFailure(new MatchSellerCommand(INDEX_FIRST_SELLER), modelWithoutProperty,
+            Messages.MESSAGE_NO_PROPERTY_TO_SELL_ADDED);
+    }
+
+    @Test
+    public void equals() {
+        MatchSellerCommand matchFirstCommand = new MatchSellerCommand(Index.fromZeroBased(1));
+        MatchSellerCommand matchSecondCommand = new MatchSellerCommand(Index.fromZeroBased(1));
+        MatchSellerCommand matchThirdCommand = new MatchSellerCommand(Index.fromZeroBased(2));
+
+        // same object -> returns true
+        assertTrue(matchFirstCommand.equals(matchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(matchFirstCommand.equals(matchSecondCommand));
+
+        // different types -> returns false
+        assertFalse(matchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(matchFirstCommand.equals(null));
+
+        // different command -> returns false
+        assertFalse(matchFirstCommand.equals(matchThirdCommand));
+    }
+}
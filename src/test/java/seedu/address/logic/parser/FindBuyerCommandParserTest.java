@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.core.Messages.MESSAGE_DUPLICATE_FIELDS;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -13,7 +14,11 @@ import seedu.address.model.buyer.BuyerHouseTypeContainsKeywordsPredicate;
 import seedu.address.model.buyer.BuyerLocationContainsKeywordsPredicate;
 import seedu.address.model.buyer.BuyerNameContainsKeywordsPredicate;
 import seedu.address.model.buyer.BuyerPhoneContainsKeywordsPredicate;
+import seedu.address.model.buyer.BuyerPriceRangeOverlapsPredicate;
 import seedu.address.model.buyer.BuyerTagsContainsKeywordsPredicate;
+import seedu.address.model.index.AllOfPredicate;
+import seedu.address.model.index.AnyOfPredicate;
+import seedu.address.model.property.PriceRange;
 
 class FindBuyerCommandParserTest {
 
@@ -33,6 +38,25 @@ class FindBuyerCommandParserTest {
                 new FindBuyerCommand(new BuyerNameContainsKeywordsPredicate(List.of("wokege"))));
     }
 
+    @Test
+    public void parse_compoundArgs_returnsCombinedPredicate() {
+        assertParseSuccess(parser, "n/alice p/9435 | pr/100,200",
+                new FindBuyerCommand(new AnyOfPredicate<>(List.of(
+                        new AllOfPredicate<>(List.of(
+                                new BuyerNameContainsKeywordsPredicate(List.of("alice")),
+                                new BuyerPhoneContainsKeywordsPredicate(List.of("9435")))),
+                        new BuyerPriceRangeOverlapsPredicate(new PriceRange(100, 200))))));
+        assertParseFailure(parser, "n/alice || p/9435", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindBuyerCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_repeatedPriceRange_throwsParseException() {
+        assertParseFailure(parser, "pr/10,20 pr/30,40", String.format(MESSAGE_DUPLICATE_FIELDS, "pr/"));
+        assertParseFailure(parser, "l/bishan | h/hdb pr/10,20 pr/10,20", String.format(MESSAGE_DUPLICATE_FIELDS,
+                "pr/"));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
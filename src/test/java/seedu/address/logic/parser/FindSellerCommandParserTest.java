@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.core.Messages.MESSAGE_DUPLICATE_FIELDS;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -9,10 +10,14 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindSellerCommand;
+import seedu.address.model.index.AllOfPredicate;
+import seedu.address.model.index.AnyOfPredicate;
+import seedu.address.model.property.PriceRange;
 import seedu.address.model.seller.SellerHouseTypeContainsKeywordsPredicate;
 import seedu.address.model.seller.SellerLocationContainsKeywordsPredicate;
 import seedu.address.model.seller.SellerNameContainsKeywordsPredicate;
 import seedu.address.model.seller.SellerPhoneContainsKeywordsPredicate;
+import seedu.address.model.seller.SellerPriceRangeOverlapsPredicate;
 import seedu.address.model.seller.SellerTagsContainsKeywordsPredicate;
 
 class FindSellerCommandParserTest {
@@ -33,6 +38,45 @@ class FindSellerCommandParserTest {
                 new FindSellerCommand(new SellerNameContainsKeywordsPredicate(List.of("wokege"))));
     }
 
+    @Test
+    public void parse_compoundArgs_returnsCombinedPredicate() {
+        // fields in one group must all match
+        assertParseSuccess(parser, "l/bishan h/bungalow condo",
+                new FindSellerCommand(new AllOfPredicate<>(List.of(
+                        new SellerHouseTypeContainsKeywordsPredicate(List.of("bungalow", "condo")),
+                        new SellerLocationContainsKeywordsPredicate(List.of("bishan"))))));
+
+        // repeated field keywords are merged
+        assertParseSuccess(parser, "n/alice n/bob",
+                new FindSellerCommand(new SellerNameContainsKeywordsPredicate(List.of("alice", "bob"))));
+
+        // groups are alternatives
+        assertParseSuccess(parser, "l/bishan pr/10,20 | t/owes",
+                new FindSellerCommand(new AnyOfPredicate<>(List.of(
+                        new AllOfPredicate<>(List.of(
+                                new SellerLocationContainsKeywordsPredicate(List.of("bishan")),
+                                new SellerPriceRangeOverlapsPredicate(new PriceRange(10, 20)))),
+                        new SellerTagsContainsKeywordsPredicate(List.of("owes"))))));
+    }
+
+    @Test
+    public void parse_invalidCompoundArgs_throwsParseException() {
+        assertParseFailure(parser, "n/alice |", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindSellerCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "| n/alice", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindSellerCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "n/ h/hdb", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindSellerCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "h/hdb pr/20,10", PriceRange.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_repeatedPriceRange_throwsParseException() {
+        assertParseFailure(parser, "pr/10,20 pr/30,40", String.format(MESSAGE_DUPLICATE_FIELDS, "pr/"));
+        assertParseFailure(parser, "l/bishan | h/hdb pr/10,20 pr/10,20", String.format(MESSAGE_DUPLICATE_FIELDS,
+                "pr/"));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
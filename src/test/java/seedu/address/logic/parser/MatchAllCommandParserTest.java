@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_DUPLICATE_FIELDS;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MatchAllCommand;
+
+class MatchAllCommandParserTest {
+
+    public final MatchAllCommandParser parser = new MatchAllCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsFirstPage() {
+        assertParseSuccess(parser, "", new MatchAllCommand(Index.fromOneBased(1)));
+        assertParseSuccess(parser, "   ", new MatchAllCommand(Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void parse_validArgs_returnsMatchAllCommand() {
+        assertParseSuccess(parser, "3", new MatchAllCommand(Index.fromOneBased(3)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MatchAllCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "0", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MatchAllCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "-1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MatchAllCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_file_returnsMatchAllCommand() {
+        assertParseSuccess(parser, " f/ out/matches.csv ", new MatchAllCommand(Paths.get("out/matches.csv")));
+    }
+
+    @Test
+    public void parse_invalidFile_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchAllCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " f/", expectedMessage);
+        assertParseFailure(parser, "2 f/matches.csv", expectedMessage);
+        assertParseFailure(parser, " f/matches\u0000.csv", expectedMessage);
+    }
+
+    @Test
+    public void parse_repeatedFile_throwsParseException() {
+        assertParseFailure(parser, " f/first.csv f/second.csv",
+            String.format(MESSAGE_DUPLICATE_FIELDS, PREFIX_FILE));
+    }
+}
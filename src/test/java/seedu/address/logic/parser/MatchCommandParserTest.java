@@ -18,6 +18,7 @@ class MatchCommandParserTest {
     public void parse_validArgs_returnsMatchBuyerCommand() {
         assertParseSuccess(parser, "1", new MatchCommand(INDEX_FIRST_CLIENT));
         assertParseSuccess(parser, "2147483647", new MatchCommand(Index.fromOneBased(2147483647)));
+        assertParseSuccess(parser, "1 top/5", new MatchCommand(INDEX_FIRST_CLIENT, 5));
     }
 
     @Test
@@ -36,5 +37,11 @@ class MatchCommandParserTest {
             MatchCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "2147483648", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
             MatchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 top/0", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MatchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 top/", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MatchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "top/3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MatchCommand.MESSAGE_USAGE));
     }
 }
@@ -2,7 +2,6 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.BuyerCommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -138,16 +137,6 @@ public class BuyerAddressBookTest {
         assertThrows(NullPointerException.class, () -> addressBook.setBuyer(someBuyer, null));
     }
 
-    @Test
-    public void sortBuyer_byName_successfulSort() {
-        BuyerAddressBook typicalBuyers = getTypicalBuyerAddressBook();
-        typicalBuyers.sortBuyers("name", "desc");
-        setBuyers(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE);
-        assertNotEquals(typicalBuyers, addressBook);
-        addressBook.sortBuyers("name", "desc");
-        assertEquals(typicalBuyers, addressBook);
-    }
-
     @Test
     public void toString_sameSize() {
         BuyerAddressBook testBuyers = getTypicalBuyerAddressBook();
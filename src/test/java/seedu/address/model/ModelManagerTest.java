@@ -11,18 +11,28 @@ import static seedu.address.testutil.TypicalBuyers.ALICE;
 import static seedu.address.testutil.TypicalBuyers.BOB;
 import static seedu.address.testutil.TypicalSellers.BENSON;
 import static seedu.address.testutil.TypicalSellers.CARL;
+import static seedu.address.testutil.TypicalSellers.DANIEL;
 
 //import java.nio.file.Path;
 import java.nio.file.Paths;
-//import java.util.Arrays;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SortSettings;
+import seedu.address.model.seller.Seller;
+import seedu.address.model.seller.SellerLocationContainsKeywordsPredicate;
+import seedu.address.model.seller.SellerNameContainsKeywordsPredicate;
 //import seedu.address.model.client.NameContainsKeywordsPredicate;
 //import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.BuyerAddressBookBuilder;
+import seedu.address.testutil.HouseBuilder;
+import seedu.address.testutil.PropertyToSellBuilder;
 import seedu.address.testutil.SellerAddressBookBuilder;
+import seedu.address.testutil.SellerBuilder;
+import seedu.address.testutil.TypicalSellers;
 
 public class ModelManagerTest {
 
@@ -66,6 +76,52 @@ public class ModelManagerTest {
         assertEquals(guiSettings, modelManager.getGuiSettings());
     }
 
+    @Test
+    public void updateFilteredSellerList_indexedPredicate_filtersLikePlainPredicate() {
+        modelManager.addSeller(DANIEL);
+        modelManager.addSeller(CARL);
+        modelManager.addSeller(BENSON);
+
+        modelManager.updateFilteredSellerList(
+                new SellerLocationContainsKeywordsPredicate(Collections.singletonList("bish")));
+        assertEquals(Arrays.asList(DANIEL, BENSON), modelManager.getFilteredSellerList());
+
+        // sellers edited after filtering are still tested against the predicate
+        Seller carlInBishan = new SellerBuilder(CARL).withProperty(new PropertyToSellBuilder(CARL.getPropertyToSell())
+                .withHouse(new HouseBuilder().withLocation("bishan").build()).build()).build();
+        modelManager.setSeller(CARL, carlInBishan);
+        assertEquals(Arrays.asList(DANIEL, carlInBishan, BENSON), modelManager.getFilteredSellerList());
+    }
+
+    @Test
+    public void updateFilteredSellerList_aboveParallelThreshold_filtersLikeSerial() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(1);
+        modelManager = new ModelManager(userPrefs, TypicalSellers.getTypicalSellerAddressBook(),
+                new BuyerAddressBook());
+
+        modelManager.updateFilteredSellerList(
+                new SellerNameContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredSellerList());
+    }
+
+    @Test
+    public void sortFilteredSellerList_sortsViewOnly_keepsStorageOrderAndPrefs() {
+        modelManager.addSeller(DANIEL);
+        modelManager.addSeller(CARL);
+        modelManager.addSeller(BENSON);
+
+        modelManager.sortFilteredSellerList("name", "asc");
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), modelManager.getFilteredSellerList());
+        assertEquals(Arrays.asList(DANIEL, CARL, BENSON), modelManager.getSellerAddressBook().getSellerList());
+        assertEquals(new SortSettings("name", "asc"), modelManager.getUserPrefs().getSellerSortSettings());
+
+        // the sort order is restored from the saved preferences
+        ModelManager restored = new ModelManager(new UserPrefs(modelManager.getUserPrefs()),
+                modelManager.getSellerAddressBook(), new BuyerAddressBook());
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), restored.getFilteredSellerList());
+    }
+
     @Test
     public void equals() {
         BuyerAddressBook buyerAddressBook = new BuyerAddressBookBuilder().withBuyer(ALICE).withBuyer(BOB).build();
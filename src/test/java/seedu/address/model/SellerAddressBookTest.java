@@ -93,6 +93,21 @@ public class SellerAddressBookTest {
         assertTrue(addressBook.hasSeller(editedAlice));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenSellerListChanges() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasSeller(ALICE);
+        addressBook.getSellerList();
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addSeller(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        addressBook.setSeller(ALICE, new SellerBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
     @Test
     public void getSellerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getSellerList().remove(0));
@@ -138,16 +153,6 @@ public class SellerAddressBookTest {
         assertThrows(NullPointerException.class, () -> addressBook.setSeller(someSeller, null));
     }
 
-    @Test
-    public void sortSeller_byName_successfulSort() {
-        SellerAddressBook typicalSellers = getTypicalSellerAddressBook();
-        typicalSellers.sortSellers("name", "desc");
-        setSellers(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE);
-        assertNotEquals(typicalSellers, addressBook);
-        addressBook.sortSellers("name", "desc");
-        assertEquals(typicalSellers, addressBook);
-    }
-
     @Test
     public void toString_sameSize() {
         SellerAddressBook testSellers = getTypicalSellerAddressBook();
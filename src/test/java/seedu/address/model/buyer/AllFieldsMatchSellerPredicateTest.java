@@ -0,0 +1,70 @@
+package seedu.address.model.buyer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Address;
+import seedu.address.model.property.House;
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NullPropertyToBuy;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.property.PropertyToBuy;
+import seedu.address.model.property.PropertyToSell;
+import seedu.address.model.seller.AllFieldsMatchBuyerPredicate;
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.BuyerBuilder;
+import seedu.address.testutil.SellerBuilder;
+
+class AllFieldsMatchSellerPredicateTest {
+
+    private Seller seller = new SellerBuilder().withProperty(new PropertyToSell(
+        new House(HouseType.BUNGALOW, new Location("Kranji")),
+        new PriceRange(100, 500), new Address("hey"))).build();
+
+    //same fields
+    private Buyer buyer1 = buyerWith(HouseType.BUNGALOW, "Kranji", 100, 500);
+    //unspecified house type at the same location
+    private Buyer buyer2 = buyerWith(HouseType.UNSPECIFIED, "Kranji", 0, 100);
+    //another house type
+    private Buyer buyer3 = buyerWith(HouseType.HDB_FLAT, "Kranji", 100, 500);
+    //another location
+    private Buyer buyer4 = buyerWith(HouseType.UNSPECIFIED, "Another location", 100, 500);
+    //out of bounds PriceRange
+    private Buyer buyer5 = buyerWith(HouseType.BUNGALOW, "Kranji", 501, 600);
+    //no property yet
+    private Buyer buyer6 = new BuyerBuilder().withProperty(NullPropertyToBuy.getNullPropertyToBuy()).build();
+
+    private AllFieldsMatchSellerPredicate predicate = new AllFieldsMatchSellerPredicate(seller);
+
+    @Test
+    void test_matchingBuyers_returnsTrue() {
+        assertTrue(predicate.test(buyer1));
+        assertTrue(predicate.test(buyer2));
+    }
+
+    @Test
+    void test_nonMatchingBuyers_returnsFalse() {
+        assertFalse(predicate.test(buyer3));
+        assertFalse(predicate.test(buyer4));
+        assertFalse(predicate.test(buyer5));
+        assertFalse(predicate.test(buyer6));
+    }
+
+    @Test
+    void test_agreesWithMatchingBuyerToSeller() {
+        for (Buyer buyer : List.of(buyer1, buyer2, buyer3, buyer4, buyer5)) {
+            assertEquals(new AllFieldsMatchBuyerPredicate(buyer).test(seller), predicate.test(buyer));
+        }
+    }
+
+    private static Buyer buyerWith(HouseType houseType, String location, int lower, int upper) {
+        return new BuyerBuilder().withProperty(new PropertyToBuy(
+            new House(houseType, new Location(location)), new PriceRange(lower, upper))).build();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.buyer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.NullPropertyToBuy;
+import seedu.address.model.property.PriceRange;
+import seedu.address.testutil.BuyerBuilder;
+import seedu.address.testutil.PropertyToBuyBuilder;
+
+public class BuyerPriceRangeOverlapsPredicateTest {
+
+    private final Buyer buyerWithProperty = new BuyerBuilder().withName("With Property")
+            .withProperty(new PropertyToBuyBuilder().withPriceRange(new PriceRange(50, 80)).build()).build();
+    private final Buyer buyerWithoutProperty = new BuyerBuilder().withName("Without Property")
+            .withProperty(NullPropertyToBuy.getNullPropertyToBuy()).build();
+
+    @Test
+    public void equals() {
+        BuyerPriceRangeOverlapsPredicate firstPredicate =
+                new BuyerPriceRangeOverlapsPredicate(new PriceRange(0, 100));
+        BuyerPriceRangeOverlapsPredicate secondPredicate =
+                new BuyerPriceRangeOverlapsPredicate(new PriceRange(0, 50));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new BuyerPriceRangeOverlapsPredicate(new PriceRange(0, 100))));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_buyerWithoutProperty_returnsFalse() {
+        BuyerPriceRangeOverlapsPredicate predicate = new BuyerPriceRangeOverlapsPredicate(new PriceRange(0, 100));
+
+        assertTrue(predicate.test(buyerWithProperty));
+        assertFalse(predicate.test(buyerWithoutProperty));
+    }
+
+    @Test
+    public void getCandidates_buyerWithoutProperty_notReturned() {
+        UniqueBuyerList buyers = new UniqueBuyerList();
+        buyers.add(buyerWithProperty);
+        buyers.add(buyerWithoutProperty);
+        BuyerPriceRangeOverlapsPredicate predicate = new BuyerPriceRangeOverlapsPredicate(new PriceRange(0, 100));
+
+        assertEquals(Set.of(buyerWithProperty), predicate.getCandidates(buyers.getIndexes()));
+
+        buyers.setBuyer(buyerWithProperty, new BuyerBuilder(buyerWithProperty)
+                .withProperty(NullPropertyToBuy.getNullPropertyToBuy()).build());
+        assertTrue(predicate.getCandidates(buyers.getIndexes()).isEmpty());
+    }
+}
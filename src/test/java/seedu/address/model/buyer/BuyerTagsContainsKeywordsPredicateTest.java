@@ -59,6 +59,10 @@ public class BuyerTagsContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new BuyerTagsContainsKeywordsPredicate(Arrays.asList("rIcH", "pOoR"));
         assertTrue(predicate.test(new BuyerBuilder().withTags("Richard").build()));
+
+        // Quoted keyword matching a whole tag
+        predicate = new BuyerTagsContainsKeywordsPredicate(Arrays.asList("\"rich\""));
+        assertTrue(predicate.test(new BuyerBuilder().withTags("friend", "Rich").build()));
     }
 
     @Test
@@ -77,5 +81,13 @@ public class BuyerTagsContainsKeywordsPredicateTest {
                 Arrays.asList("12345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new BuyerBuilder().withName("Alice").withTags("LovesToSleep")
                 .build()));
+
+        // Keyword in the middle of a tag
+        predicate = new BuyerTagsContainsKeywordsPredicate(Arrays.asList("ich"));
+        assertFalse(predicate.test(new BuyerBuilder().withTags("Rich").build()));
+
+        // Quoted keyword matching only the start of a tag
+        predicate = new BuyerTagsContainsKeywordsPredicate(Arrays.asList("\"rich\""));
+        assertFalse(predicate.test(new BuyerBuilder().withTags("Richard").build()));
     }
 }
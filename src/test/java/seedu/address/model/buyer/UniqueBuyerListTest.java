@@ -2,10 +2,10 @@ package seedu.address.model.buyer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.BuyerCommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBuyers.AMY;
 import static seedu.address.testutil.TypicalBuyers.BOB;
 import static seedu.address.testutil.TypicalBuyers.CHAD;
 
@@ -48,6 +48,21 @@ public class UniqueBuyerListTest {
         assertTrue(uniquebuyerList.contains(editedChad));
     }
 
+    @Test
+    public void contains_buyerRemovedFromList_returnsFalse() {
+        uniquebuyerList.add(CHAD);
+        uniquebuyerList.remove(CHAD);
+        assertFalse(uniquebuyerList.contains(CHAD));
+    }
+
+    @Test
+    public void contains_buyerReplacedWithDifferentIdentity_returnsFalse() {
+        uniquebuyerList.add(CHAD);
+        uniquebuyerList.setBuyer(CHAD, BOB);
+        assertFalse(uniquebuyerList.contains(CHAD));
+        assertTrue(uniquebuyerList.contains(BOB));
+    }
+
     @Test
     public void add_nullbuyer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquebuyerList.add(null));
@@ -128,6 +143,17 @@ public class UniqueBuyerListTest {
         assertEquals(expectedUniquebuyerList, uniquebuyerList);
     }
 
+    @Test
+    public void setBuyer_afterEarlierBuyerRemoved_replacesCorrectBuyer() {
+        uniquebuyerList.add(AMY);
+        uniquebuyerList.add(CHAD);
+        uniquebuyerList.remove(AMY);
+        uniquebuyerList.setBuyer(CHAD, BOB);
+        UniqueBuyerList expectedUniquebuyerList = new UniqueBuyerList();
+        expectedUniquebuyerList.add(BOB);
+        assertEquals(expectedUniquebuyerList, uniquebuyerList);
+    }
+
     @Test
     public void setBuyers_nullUniquebuyerList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquebuyerList.setBuyers((UniqueBuyerList) null));
@@ -164,52 +190,17 @@ public class UniqueBuyerListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, ()
-            -> uniquebuyerList.asUnmodifiableObservableList().remove(0));
-    }
-
-    @Test
-    public void sort_sortedBuyerList_sameSortOrder() {
-        uniquebuyerList.add(CHAD);
-        uniquebuyerList.add(BOB);
-        uniquebuyerList.sortBuyers("name", "asc");
-        UniqueBuyerList otherUniqueBuyerList = new UniqueBuyerList();
-        otherUniqueBuyerList.add(BOB);
-        otherUniqueBuyerList.add(CHAD);
-        assertEquals(otherUniqueBuyerList, uniquebuyerList);
-    }
-
-    @Test
-    public void sort_sortedBuyerList_diffSortOrder() {
-        uniquebuyerList.add(CHAD);
-        uniquebuyerList.add(BOB);
-        uniquebuyerList.sortBuyers("name", "desc");
-        UniqueBuyerList otherUniqueBuyerList = new UniqueBuyerList();
-        otherUniqueBuyerList.add(BOB);
-        otherUniqueBuyerList.add(CHAD);
-        assertNotEquals(otherUniqueBuyerList, uniquebuyerList);
+    public void setBuyers_listWithSeveralDuplicates_reportsEveryDuplicate() {
+        List<Buyer> listWithDuplicateClients = Arrays.asList(CHAD, BOB, CHAD, BOB, CHAD);
+        String expectedMessage = "Operation would result in duplicate clients: "
+                + CHAD.getName() + ", " + BOB.getName();
+        assertThrows(DuplicateClientException.class, expectedMessage, () ->
+                uniquebuyerList.setBuyers(listWithDuplicateClients));
     }
 
     @Test
-    public void sort_sortedBuyerList_sameSortOrderReverse() {
-        uniquebuyerList.add(CHAD);
-        uniquebuyerList.add(BOB);
-        uniquebuyerList.sortBuyers("time", "asc");
-        UniqueBuyerList otherUniqueBuyerList = new UniqueBuyerList();
-        otherUniqueBuyerList.add(BOB);
-        otherUniqueBuyerList.add(CHAD);
-        assertEquals(otherUniqueBuyerList, uniquebuyerList);
-    }
-
-    @Test
-    public void sort_sortedBuyerList_diffSortOrderReverse() {
-        uniquebuyerList.add(CHAD);
-        uniquebuyerList.add(BOB);
-        uniquebuyerList.sortBuyers("time", "desc");
-        UniqueBuyerList otherUniqueBuyerList = new UniqueBuyerList();
-        otherUniqueBuyerList.add(BOB);
-        otherUniqueBuyerList.add(CHAD);
-        assertNotEquals(otherUniqueBuyerList, uniquebuyerList);
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquebuyerList.asUnmodifiableObservableList().remove(0));
     }
 }
@@ -0,0 +1,81 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSellers.ALICE;
+import static seedu.address.testutil.TypicalSellers.BENSON;
+import static seedu.address.testutil.TypicalSellers.CARL;
+import static seedu.address.testutil.TypicalSellers.DANIEL;
+import static seedu.address.testutil.TypicalSellers.FIONA;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.seller.Seller;
+import seedu.address.model.seller.SellerHouseTypeContainsKeywordsPredicate;
+import seedu.address.model.seller.SellerLocationContainsKeywordsPredicate;
+import seedu.address.model.seller.SellerNameContainsKeywordsPredicate;
+import seedu.address.model.seller.SellerPriceRangeOverlapsPredicate;
+import seedu.address.testutil.TypicalSellers;
+
+public class AllOfPredicateTest {
+
+    private final ClientIndexes<Seller> indexes = new ClientIndexes<>(
+        seller -> seller.getPropertyToSell().getHouse(), seller -> seller.getPropertyToSell().getPriceRange(),
+        seller -> !(seller.getPropertyToSell() instanceof NullPropertyToSell));
+
+    @Test
+    public void constructor_noPredicates_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new AllOfPredicate<Seller>(null));
+        assertThrows(IllegalArgumentException.class, () -> new AllOfPredicate<Seller>(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new AnyOfPredicate<Seller>(List.of()));
+    }
+
+    @Test
+    public void test_allPredicatesMustMatch() {
+        AllOfPredicate<Seller> predicate = new AllOfPredicate<>(List.of(
+                new SellerLocationContainsKeywordsPredicate(List.of("bishan")),
+                new SellerHouseTypeContainsKeywordsPredicate(List.of("bungalow"))));
+
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void getCandidates_intersectsCandidatesOfEveryPredicate() {
+        indexes.reset(TypicalSellers.getTypicalSellers());
+        AllOfPredicate<Seller> predicate = new AllOfPredicate<>(List.of(
+                new SellerLocationContainsKeywordsPredicate(List.of("bishan")),
+                new SellerHouseTypeContainsKeywordsPredicate(List.of("bungalow")),
+                new SellerPriceRangeOverlapsPredicate(new PriceRange(21, 40))));
+
+        assertEquals(Set.of(DANIEL, FIONA), predicate.getCandidates(indexes));
+    }
+
+    @Test
+    public void getCandidates_onePredicateWithoutCandidates_returnsEmptySet() {
+        indexes.reset(TypicalSellers.getTypicalSellers());
+        AllOfPredicate<Seller> predicate = new AllOfPredicate<>(List.of(
+                new SellerLocationContainsKeywordsPredicate(List.of("bishan")),
+                new SellerNameContainsKeywordsPredicate(List.of("zzzzz"))));
+
+        assertTrue(predicate.getCandidates(indexes).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_anyOf_unitesCandidatesOfEveryPredicate() {
+        indexes.reset(TypicalSellers.getTypicalSellers());
+        AnyOfPredicate<Seller> predicate = new AnyOfPredicate<>(List.of(
+                new SellerLocationContainsKeywordsPredicate(List.of("clementi")),
+                new SellerPriceRangeOverlapsPredicate(new PriceRange(21, 22))));
+
+        assertEquals(Set.of(CARL, FIONA), predicate.getCandidates(indexes));
+    }
+}
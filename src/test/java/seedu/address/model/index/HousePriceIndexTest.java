@@ -0,0 +1,69 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSellers.ALICE;
+import static seedu.address.testutil.TypicalSellers.BENSON;
+import static seedu.address.testutil.TypicalSellers.CARL;
+import static seedu.address.testutil.TypicalSellers.DANIEL;
+import static seedu.address.testutil.TypicalSellers.FIONA;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.seller.Seller;
+
+public class HousePriceIndexTest {
+
+    private static final Location BISHAN = new Location("bishan");
+
+    private final HousePriceIndex<Seller> housePriceIndex = new HousePriceIndex<>(
+        seller -> seller.getPropertyToSell().getHouse(), seller -> seller.getPropertyToSell().getPriceRange());
+
+    @BeforeEach
+    public void setUp() {
+        // ALICE, DANIEL and FIONA have bungalows in bishan, BENSON has an HDB flat in bishan, CARL is in clementi
+        for (Seller seller : List.of(ALICE, BENSON, CARL, DANIEL, FIONA)) {
+            housePriceIndex.add(seller);
+        }
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HousePriceIndex<Seller>(null, seller -> null));
+        assertThrows(NullPointerException.class, () -> new HousePriceIndex<Seller>(seller -> null, null));
+    }
+
+    @Test
+    public void getClientsAt_singleHouseType_returnsOverlappingClientsInThatCell() {
+        assertEquals(Set.of(ALICE, FIONA), housePriceIndex.getClientsAt(BISHAN,
+            HouseType.BUNGALOW::equals, new PriceRange(15, 29)));
+    }
+
+    @Test
+    public void getClientsAt_allHouseTypes_widensToEveryCellAtLocation() {
+        assertEquals(Set.of(ALICE, BENSON, FIONA), housePriceIndex.getClientsAt(BISHAN,
+            houseType -> true, new PriceRange(15, 29)));
+    }
+
+    @Test
+    public void getClientsAt_unknownLocation_returnsEmptySet() {
+        assertTrue(housePriceIndex.getClientsAt(new Location("woodlands"),
+            houseType -> true, new PriceRange(0, 100)).isEmpty());
+    }
+
+    @Test
+    public void remove_lastClientInCell_keepsOtherCells() {
+        housePriceIndex.remove(BENSON);
+
+        assertEquals(Set.of(ALICE, DANIEL, FIONA), housePriceIndex.getClientsAt(BISHAN,
+            houseType -> true, new PriceRange(0, 100)));
+    }
+}
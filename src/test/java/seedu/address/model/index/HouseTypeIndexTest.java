@@ -0,0 +1,61 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSellers.ALICE;
+import static seedu.address.testutil.TypicalSellers.BENSON;
+import static seedu.address.testutil.TypicalSellers.CARL;
+import static seedu.address.testutil.TypicalSellers.DANIEL;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.HouseType;
+import seedu.address.model.seller.Seller;
+
+public class HouseTypeIndexTest {
+
+    private final HouseTypeIndex<Seller> houseTypeIndex =
+        new HouseTypeIndex<>(seller -> seller.getPropertyToSell().getHouse().getHouseType());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HouseTypeIndex<Seller>(null));
+    }
+
+    @Test
+    public void getClientsOf_houseType_returnsBucket() {
+        houseTypeIndex.add(ALICE);
+        houseTypeIndex.add(BENSON);
+        houseTypeIndex.add(DANIEL);
+
+        assertEquals(Set.of(ALICE, DANIEL), houseTypeIndex.getClientsOf(HouseType.BUNGALOW));
+        assertEquals(Set.of(BENSON), houseTypeIndex.getClientsOf(HouseType.HDB_FLAT));
+        assertTrue(houseTypeIndex.getClientsOf(HouseType.MANSION).isEmpty());
+    }
+
+    @Test
+    public void getClientsOf_filter_returnsUnionOfAcceptedBuckets() {
+        houseTypeIndex.add(ALICE);
+        houseTypeIndex.add(BENSON);
+        houseTypeIndex.add(CARL);
+
+        assertEquals(Set.of(BENSON, CARL), houseTypeIndex.getClientsOf(houseType ->
+            houseType == HouseType.HDB_FLAT || houseType == HouseType.COLONIA));
+    }
+
+    @Test
+    public void getClientsOf_afterAddAndRemove_tracksBucket() {
+        houseTypeIndex.add(ALICE);
+        houseTypeIndex.add(DANIEL);
+        assertEquals(Set.of(ALICE, DANIEL), houseTypeIndex.getClientsOf(HouseType.BUNGALOW));
+
+        houseTypeIndex.remove(ALICE);
+        assertEquals(Set.of(DANIEL), houseTypeIndex.getClientsOf(HouseType.BUNGALOW));
+
+        houseTypeIndex.clear();
+        assertTrue(houseTypeIndex.getClientsOf(HouseType.BUNGALOW).isEmpty());
+    }
+}
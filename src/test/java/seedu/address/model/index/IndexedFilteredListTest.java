@@ -0,0 +1,128 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IndexedFilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(5, 2, 8, 3, 4);
+    private final IndexedFilteredList<Integer> view = new IndexedFilteredList<>(source);
+
+    @Test
+    public void constructor_showsEveryElement() {
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setSelection_givenPositions_noElementTested() {
+        AtomicInteger tests = new AtomicInteger();
+        BitSet positions = new BitSet();
+        positions.set(1);
+        positions.set(4);
+
+        view.setSelection(countingTests(IS_EVEN, tests), positions);
+
+        assertEquals(List.of(2, 4), view);
+        assertEquals(0, tests.get());
+        assertEquals(1, view.getSourceIndex(0));
+        assertEquals(1, view.getViewIndex(4));
+        assertEquals(-1, view.getViewIndex(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(2));
+    }
+
+    @Test
+    public void sourceChanged_add_onlyAddedElementTested() {
+        AtomicInteger tests = new AtomicInteger();
+        view.setPredicate(countingTests(IS_EVEN, tests));
+        tests.set(0);
+
+        source.add(0, 6);
+        source.add(7);
+
+        assertEquals(List.of(6, 2, 8, 4), view);
+        assertEquals(2, tests.get());
+    }
+
+    @Test
+    public void sourceChanged_removeAndSort_noElementTested() {
+        AtomicInteger tests = new AtomicInteger();
+        view.setPredicate(countingTests(IS_EVEN, tests));
+        tests.set(0);
+
+        source.remove(Integer.valueOf(2));
+        source.sort(Comparator.naturalOrder());
+
+        assertEquals(List.of(4, 8), view);
+        assertEquals(0, tests.get());
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_viewAndListenersStayInStep() {
+        Random random = new Random(11);
+        List<Integer> mirror = new ArrayList<>(view);
+        view.addListener((ListChangeListener<Integer>) change -> applyChange(change, mirror));
+        view.setPredicate(IS_EVEN);
+
+        for (int step = 0; step < 500; step++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), random.nextInt(100));
+            } else if (operation == 3) {
+                source.sort(random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+            } else {
+                source.setAll(random.ints(random.nextInt(8), 0, 100).boxed().collect(Collectors.toList()));
+            }
+
+            List<Integer> expected = source.stream().filter(IS_EVEN).collect(Collectors.toList());
+            assertEquals(expected, view);
+            assertEquals(expected, mirror);
+        }
+    }
+
+    private static Predicate<Integer> countingTests(Predicate<Integer> predicate, AtomicInteger tests) {
+        return number -> {
+            tests.incrementAndGet();
+            return predicate.test(number);
+        };
+    }
+
+    /**
+     * Replays {@code change} on {@code mirror}, so that the mirror only follows the view through its change events.
+     */
+    private static void applyChange(ListChangeListener.Change<? extends Integer> change, List<Integer> mirror) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Integer> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror.clear();
+                mirror.addAll(permuted);
+            } else if (!change.wasUpdated()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSellers.ALICE;
+import static seedu.address.testutil.TypicalSellers.BENSON;
+import static seedu.address.testutil.TypicalSellers.CARL;
+import static seedu.address.testutil.TypicalSellers.ELLE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Location;
+import seedu.address.model.seller.Seller;
+
+public class LocationIndexTest {
+
+    private final LocationIndex<Seller> locationIndex =
+        new LocationIndex<>(seller -> seller.getPropertyToSell().getHouse().getLocation());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LocationIndex<Seller>(null));
+    }
+
+    @Test
+    public void getClientsAt_location_returnsClientsAtThatLocationOnly() {
+        locationIndex.add(ALICE);
+        locationIndex.add(BENSON);
+        locationIndex.add(CARL);
+
+        Set<Seller> sellersInBishan = locationIndex.getClientsAt(new Location("Bishan"));
+        assertEquals(2, sellersInBishan.size());
+        assertTrue(sellersInBishan.contains(ALICE));
+        assertTrue(sellersInBishan.contains(BENSON));
+
+        assertTrue(locationIndex.getClientsAt(new Location("Woodlands")).isEmpty());
+    }
+
+    @Test
+    public void getClientsAt_filter_testsEachDistinctLocationOnce() {
+        locationIndex.add(ALICE);
+        locationIndex.add(BENSON);
+        locationIndex.add(CARL);
+        locationIndex.add(ELLE);
+
+        List<Location> testedLocations = new ArrayList<>();
+        Set<Seller> sellers = locationIndex.getClientsAt(location -> {
+            testedLocations.add(location);
+            return location.toString().startsWith("ang");
+        });
+
+        assertEquals(3, testedLocations.size());
+        assertEquals(Set.of(ELLE), sellers);
+    }
+
+    @Test
+    public void remove_lastClientAtLocation_dropsLocation() {
+        locationIndex.add(ALICE);
+        locationIndex.add(CARL);
+
+        locationIndex.remove(CARL);
+
+        assertTrue(locationIndex.getClientsAt(new Location("clementi")).isEmpty());
+        assertEquals(1, locationIndex.getLocationCount());
+    }
+
+    @Test
+    public void remove_clientNotInIndex_doesNothing() {
+        locationIndex.add(ALICE);
+
+        locationIndex.remove(CARL);
+
+        assertEquals(Set.of(ALICE), locationIndex.getClientsAt(new Location("bishan")));
+    }
+
+    @Test
+    public void clear_removesAllClients() {
+        locationIndex.add(ALICE);
+        locationIndex.add(CARL);
+
+        locationIndex.clear();
+
+        assertEquals(0, locationIndex.getLocationCount());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSellers.ALICE;
+import static seedu.address.testutil.TypicalSellers.BENSON;
+import static seedu.address.testutil.TypicalSellers.CARL;
+import static seedu.address.testutil.TypicalSellers.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.seller.Seller;
+import seedu.address.model.seller.SellerNameContainsKeywordsPredicate;
+import seedu.address.testutil.TypicalSellers;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex<Seller> nameIndex = new NameTrigramIndex<>(seller -> seller.getName().fullName);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameTrigramIndex<Seller>(null));
+    }
+
+    @Test
+    public void getClientsContaining_substring_returnsClientsWithSubstringIgnoringCase() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(CARL);
+        nameIndex.add(DANIEL);
+
+        assertEquals(Set.of(BENSON, DANIEL), nameIndex.getClientsContaining("MEIER"));
+        assertEquals(Set.of(ALICE), nameIndex.getClientsContaining("pauli"));
+        assertTrue(nameIndex.getClientsContaining("meyer").isEmpty());
+    }
+
+    @Test
+    public void getClientsContaining_shortKeyword_returnsEveryClient() {
+        nameIndex.add(ALICE);
+        nameIndex.add(CARL);
+
+        assertEquals(Set.of(ALICE, CARL), nameIndex.getClientsContaining("zz"));
+    }
+
+    @Test
+    public void getClientsContaining_typicalSellers_supersetOfPredicateMatches() {
+        List<Seller> sellers = TypicalSellers.getTypicalSellers();
+        sellers.forEach(nameIndex::add);
+
+        for (String keyword : List.of("al", "ali", "Meier", "er", "ust", "kunz", "best", "xyz")) {
+            SellerNameContainsKeywordsPredicate predicate = new SellerNameContainsKeywordsPredicate(List.of(keyword));
+            Set<Seller> candidates = nameIndex.getClientsContaining(keyword);
+            sellers.stream().filter(predicate).forEach(seller -> assertTrue(candidates.contains(seller)));
+        }
+    }
+
+    @Test
+    public void remove_lastClientWithTrigram_dropsTrigram() {
+        nameIndex.add(ALICE);
+        int gramCount = nameIndex.getGramCount();
+        nameIndex.add(CARL);
+
+        nameIndex.remove(CARL);
+
+        assertEquals(gramCount, nameIndex.getGramCount());
+        assertTrue(nameIndex.getClientsContaining("kurz").isEmpty());
+    }
+
+    @Test
+    public void remove_clientNotInIndex_doesNothing() {
+        nameIndex.add(ALICE);
+
+        nameIndex.remove(CARL);
+
+        assertEquals(Set.of(ALICE), nameIndex.getClientsContaining("alice"));
+    }
+
+    @Test
+    public void clear_removesAllClients() {
+        nameIndex.add(ALICE);
+        nameIndex.add(CARL);
+
+        nameIndex.clear();
+
+        assertEquals(0, nameIndex.getGramCount());
+        assertTrue(nameIndex.getClientsContaining("a").isEmpty());
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.SellerBuilder;
+
+public class PhoneTrieTest {
+
+    private static final Seller FIRST = new SellerBuilder().withName("First").withPhone("91234567").build();
+    private static final Seller SECOND = new SellerBuilder().withName("Second").withPhone("91235555").build();
+    private static final Seller THIRD = new SellerBuilder().withName("Third").withPhone("84567").build();
+
+    private final PhoneTrie<Seller> phoneIndex = new PhoneTrie<>(seller -> seller.getPhone().value);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PhoneTrie<Seller>(null));
+    }
+
+    @Test
+    public void contains_wholeNumberOnly() {
+        phoneIndex.add(FIRST);
+
+        assertTrue(phoneIndex.contains("91234567"));
+        assertFalse(phoneIndex.contains("9123"));
+        assertFalse(phoneIndex.contains("912345678"));
+        assertFalse(phoneIndex.contains("abc"));
+    }
+
+    @Test
+    public void getClientsStartingWith_prefix_returnsNumbersWithPrefix() {
+        phoneIndex.add(FIRST);
+        phoneIndex.add(SECOND);
+        phoneIndex.add(THIRD);
+
+        assertEquals(Set.of(FIRST, SECOND), phoneIndex.getClientsStartingWith("9123"));
+        assertEquals(Set.of(FIRST), phoneIndex.getClientsStartingWith("91234567"));
+        assertTrue(phoneIndex.getClientsStartingWith("4567").isEmpty());
+    }
+
+    @Test
+    public void getClientsContaining_substring_returnsNumbersWithSubstring() {
+        phoneIndex.add(FIRST);
+        phoneIndex.add(SECOND);
+        phoneIndex.add(THIRD);
+
+        assertEquals(Set.of(FIRST, THIRD), phoneIndex.getClientsContaining("4567"));
+        assertEquals(Set.of(SECOND), phoneIndex.getClientsContaining("555"));
+        assertTrue(phoneIndex.getClientsContaining("x5").isEmpty());
+    }
+
+    @Test
+    public void getClientsContaining_numbersLongerThanSuffixDepth_checksWholeKeyword() {
+        String digits = "1234567890123456789012345";
+        Seller longNumber = new SellerBuilder().withName("Long").withPhone(digits).build();
+        Seller sameStart = new SellerBuilder().withName("Same Start").withPhone(digits.substring(0, 20) + "00000")
+                .build();
+        phoneIndex.add(longNumber);
+        phoneIndex.add(sameStart);
+
+        assertEquals(Set.of(longNumber, sameStart), phoneIndex.getClientsContaining(digits.substring(2, 18)));
+        assertEquals(Set.of(longNumber), phoneIndex.getClientsContaining(digits.substring(3, 25)));
+        assertEquals(Set.of(sameStart), phoneIndex.getClientsContaining("7890000"));
+        assertTrue(phoneIndex.contains(digits));
+
+        phoneIndex.remove(longNumber);
+        assertEquals(Set.of(sameStart), phoneIndex.getClientsContaining(digits.substring(2, 18)));
+        assertTrue(phoneIndex.getClientsContaining(digits.substring(3, 25)).isEmpty());
+    }
+
+    @Test
+    public void remove_client_noLongerFound() {
+        phoneIndex.add(FIRST);
+        phoneIndex.add(THIRD);
+
+        phoneIndex.remove(FIRST);
+        phoneIndex.remove(SECOND);
+
+        assertFalse(phoneIndex.contains("91234567"));
+        assertEquals(Set.of(THIRD), phoneIndex.getClientsContaining("4567"));
+    }
+
+    @Test
+    public void clear_removesAllClients() {
+        phoneIndex.add(FIRST);
+        phoneIndex.add(THIRD);
+
+        phoneIndex.clear();
+
+        assertTrue(phoneIndex.getClientsContaining("").isEmpty());
+    }
+
+    @Test
+    public void getClientsContaining_randomNumbers_sameAsScan() {
+        Random random = new Random(3);
+        List<Seller> sellers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Seller seller = new SellerBuilder().withName("Seller " + i)
+                    .withPhone(String.valueOf(100 + random.nextInt(100000))).build();
+            sellers.add(seller);
+            phoneIndex.add(seller);
+        }
+        List<Seller> remaining = new ArrayList<>();
+        for (int i = 0; i < sellers.size(); i++) {
+            if (i % 2 == 0) {
+                phoneIndex.remove(sellers.get(i));
+            } else {
+                remaining.add(sellers.get(i));
+            }
+        }
+
+        for (String keyword : List.of("1", "12", "345", "90", "007")) {
+            Set<Seller> expected = remaining.stream()
+                    .filter(seller -> seller.getPhone().value.contains(keyword))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, phoneIndex.getClientsContaining(keyword));
+        }
+    }
+}
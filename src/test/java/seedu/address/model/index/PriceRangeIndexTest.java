@@ -0,0 +1,113 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.PropertyToSellBuilder;
+import seedu.address.testutil.SellerBuilder;
+
+public class PriceRangeIndexTest {
+
+    private final PriceRangeIndex<Seller> priceRangeIndex =
+        new PriceRangeIndex<>(seller -> seller.getPropertyToSell().getPriceRange());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PriceRangeIndex<Seller>(null));
+    }
+
+    @Test
+    public void getClientsOverlapping_closedRanges_includesSharedEndpoints() {
+        Seller below = sellerWithPriceRange("Below", 0, 19);
+        Seller touchingLower = sellerWithPriceRange("Touching Lower", 10, 20);
+        Seller inside = sellerWithPriceRange("Inside", 50, 50);
+        Seller covering = sellerWithPriceRange("Covering", 0, 200);
+        Seller touchingUpper = sellerWithPriceRange("Touching Upper", 100, 150);
+        Seller above = sellerWithPriceRange("Above", 101, 200);
+        for (Seller seller : List.of(below, touchingLower, inside, covering, touchingUpper, above)) {
+            priceRangeIndex.add(seller);
+        }
+
+        assertEquals(Set.of(touchingLower, inside, covering, touchingUpper),
+            priceRangeIndex.getClientsOverlapping(new PriceRange(20, 100)));
+    }
+
+    @Test
+    public void getClientsOverlapping_sameRangeForManyClients_returnsAll() {
+        Seller first = sellerWithPriceRange("First", 10, 20);
+        Seller second = sellerWithPriceRange("Second", 10, 20);
+        priceRangeIndex.add(first);
+        priceRangeIndex.add(second);
+
+        priceRangeIndex.remove(first);
+
+        assertEquals(Set.of(second), priceRangeIndex.getClientsOverlapping(new PriceRange(15, 15)));
+    }
+
+    @Test
+    public void forEachClientOverlapping_sameRangeForManyClients_passesEachOnce() {
+        Seller first = sellerWithPriceRange("First", 10, 20);
+        Seller second = sellerWithPriceRange("Second", 10, 20);
+        Seller outside = sellerWithPriceRange("Outside", 30, 40);
+        priceRangeIndex.add(first);
+        priceRangeIndex.add(second);
+        priceRangeIndex.add(outside);
+
+        List<Seller> passed = new ArrayList<>();
+        priceRangeIndex.forEachClientOverlapping(new PriceRange(0, 25), passed::add);
+        assertEquals(2, passed.size());
+        assertEquals(Set.of(first, second), new HashSet<>(passed));
+    }
+
+    @Test
+    public void getClientsOverlapping_afterClear_returnsEmptySet() {
+        priceRangeIndex.add(sellerWithPriceRange("First", 10, 20));
+
+        priceRangeIndex.clear();
+
+        assertTrue(priceRangeIndex.getClientsOverlapping(new PriceRange(0, 100)).isEmpty());
+    }
+
+    @Test
+    public void getClientsOverlapping_randomAddsAndRemoves_matchesFullScan() {
+        Random random = new Random(42);
+        List<Seller> sellers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int lower = random.nextInt(1000);
+            Seller seller = sellerWithPriceRange("Seller " + i, lower, lower + random.nextInt(100));
+            sellers.add(seller);
+            priceRangeIndex.add(seller);
+        }
+        for (int i = 0; i < 100; i++) {
+            priceRangeIndex.remove(sellers.remove(random.nextInt(sellers.size())));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            int lower = random.nextInt(1100);
+            PriceRange query = new PriceRange(lower, lower + random.nextInt(50));
+            Set<Seller> expected = new HashSet<>();
+            for (Seller seller : sellers) {
+                if (PriceRange.canMatchPrice(query, seller.getPropertyToSell().getPriceRange())) {
+                    expected.add(seller);
+                }
+            }
+            assertEquals(expected, priceRangeIndex.getClientsOverlapping(query));
+        }
+    }
+
+    private static Seller sellerWithPriceRange(String name, int lower, int upper) {
+        return new SellerBuilder().withName(name)
+            .withProperty(new PropertyToSellBuilder().withPriceRange(new PriceRange(lower, upper)).build()).build();
+    }
+}
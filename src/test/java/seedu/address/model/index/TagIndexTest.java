@@ -0,0 +1,111 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.SellerBuilder;
+
+public class TagIndexTest {
+
+    private static final Seller FIRST = new SellerBuilder().withName("First").withTags("friend", "Rich").build();
+    private static final Seller SECOND = new SellerBuilder().withName("Second").withTags("friends").build();
+    private static final Seller THIRD = new SellerBuilder().withName("Third").withTags("family").build();
+
+    private final TagIndex<Seller> tagIndex = new TagIndex<>();
+
+    @Test
+    public void getClientsTaggedWithAny_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getClientsTaggedWithAny(null, List.of()));
+        assertThrows(NullPointerException.class, () -> tagIndex.getClientsTaggedWithAny(List.of(), null));
+    }
+
+    @Test
+    public void getClientsTaggedWithAny_exactNames_returnsClientsWithTagIgnoringCase() {
+        tagIndex.add(FIRST);
+        tagIndex.add(SECOND);
+        tagIndex.add(THIRD);
+
+        assertEquals(Set.of(FIRST), tagIndex.getClientsTaggedWithAny(List.of("FRIEND"), List.of()));
+        assertEquals(Set.of(FIRST, THIRD), tagIndex.getClientsTaggedWithAny(List.of("rich", "family"), List.of()));
+        assertTrue(tagIndex.getClientsTaggedWithAny(List.of("fri"), List.of()).isEmpty());
+    }
+
+    @Test
+    public void getClientsTaggedWithAny_prefixes_returnsClientsWithTagStartingWithPrefix() {
+        tagIndex.add(FIRST);
+        tagIndex.add(SECOND);
+        tagIndex.add(THIRD);
+
+        assertEquals(Set.of(FIRST, SECOND), tagIndex.getClientsTaggedWithAny(List.of(), List.of("Fri")));
+        assertEquals(Set.of(FIRST, SECOND, THIRD), tagIndex.getClientsTaggedWithAny(List.of(), List.of("f")));
+        assertEquals(Set.of(SECOND, THIRD), tagIndex.getClientsTaggedWithAny(List.of("family"), List.of("friends")));
+        assertTrue(tagIndex.getClientsTaggedWithAny(List.of(), List.of("iend")).isEmpty());
+    }
+
+    @Test
+    public void add_sameTagOnManyClients_internedOnce() {
+        tagIndex.add(FIRST);
+        tagIndex.add(new SellerBuilder().withName("Other").withTags("FRIEND").build());
+
+        assertEquals(2, tagIndex.getTagCount());
+    }
+
+    @Test
+    public void remove_client_slotReused() {
+        tagIndex.add(FIRST);
+        tagIndex.add(SECOND);
+
+        tagIndex.remove(FIRST);
+        tagIndex.remove(THIRD);
+        tagIndex.add(THIRD);
+
+        assertEquals(Set.of(SECOND, THIRD), tagIndex.getClientsTaggedWithAny(List.of(), List.of("f")));
+        assertTrue(tagIndex.getClientsTaggedWithAny(List.of("rich"), List.of()).isEmpty());
+    }
+
+    @Test
+    public void remove_lastClientWithTag_tagIdReused() {
+        tagIndex.add(FIRST);
+        tagIndex.add(THIRD);
+
+        tagIndex.remove(FIRST);
+        assertEquals(1, tagIndex.getTagCount());
+        assertTrue(tagIndex.getClientsTaggedWithAny(List.of("friend", "rich"), List.of()).isEmpty());
+
+        tagIndex.add(SECOND);
+        assertEquals(2, tagIndex.getTagCount());
+        assertEquals(Set.of(SECOND), tagIndex.getClientsTaggedWithAny(List.of("friends"), List.of()));
+        assertEquals(Set.of(SECOND, THIRD), tagIndex.getClientsTaggedWithAny(List.of(), List.of("f")));
+    }
+
+    @Test
+    public void remove_renamedTag_oldTagReleased() {
+        tagIndex.add(FIRST);
+        Seller renamed = new SellerBuilder(FIRST).withTags("friend", "Wealthy").build();
+
+        tagIndex.remove(FIRST);
+        tagIndex.add(renamed);
+
+        assertEquals(2, tagIndex.getTagCount());
+        assertTrue(tagIndex.getClientsTaggedWithAny(List.of(), List.of("rich")).isEmpty());
+        assertEquals(Set.of(renamed), tagIndex.getClientsTaggedWithAny(List.of("wealthy"), List.of()));
+    }
+
+    @Test
+    public void clear_removesAllClients() {
+        tagIndex.add(FIRST);
+        tagIndex.add(THIRD);
+
+        tagIndex.clear();
+
+        assertEquals(0, tagIndex.getTagCount());
+        assertTrue(tagIndex.getClientsTaggedWithAny(List.of(), List.of("")).isEmpty());
+    }
+}
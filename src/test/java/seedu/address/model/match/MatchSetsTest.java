@@ -0,0 +1,166 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import seedu.address.model.BuyerAddressBook;
+import seedu.address.model.SellerAddressBook;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.House;
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.property.PropertyToBuy;
+import seedu.address.model.property.PropertyToSell;
+import seedu.address.model.seller.AllFieldsMatchBuyerPredicate;
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.BuyerBuilder;
+import seedu.address.testutil.SellerBuilder;
+import seedu.address.testutil.TypicalBuyers;
+import seedu.address.testutil.TypicalSellers;
+
+public class MatchSetsTest {
+
+    private static final HouseType[] HOUSE_TYPES = {HouseType.UNSPECIFIED, HouseType.BUNGALOW, HouseType.HDB_FLAT};
+    private static final String[] LOCATIONS = {"bishan", "clementi", "kranji"};
+
+    private BuyerAddressBook buyerAddressBook;
+    private SellerAddressBook sellerAddressBook;
+    private MatchSets matchSets;
+
+    @BeforeEach
+    public void setUp() {
+        buyerAddressBook = TypicalBuyers.getTypicalBuyerAddressBook();
+        sellerAddressBook = TypicalSellers.getTypicalSellerAddressBook();
+        matchSets = new MatchSets(buyerAddressBook.getBuyerList(), buyerAddressBook.getBuyerIndexes(),
+                sellerAddressBook.getSellerList(), sellerAddressBook.getSellerIndexes());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MatchSets(null, buyerAddressBook.getBuyerIndexes(),
+                sellerAddressBook.getSellerList(), sellerAddressBook.getSellerIndexes()));
+    }
+
+    @Test
+    public void getMatches_typicalClients_sameAsMatchCommand() {
+        assertEquals(Set.of(TypicalSellers.ALICE, TypicalSellers.BENSON, TypicalSellers.FIONA, TypicalSellers.GEORGE),
+                Set.copyOf(matchSets.getMatches(TypicalBuyers.CARL)));
+        assertEquals(4, matchSets.getMatchCount(TypicalBuyers.CARL).get());
+        assertTrue(matchSets.getMatches(TypicalBuyers.ALICE).isEmpty());
+        assertEquals(0, matchSets.getMatchCount(TypicalBuyers.DANIEL).get());
+    }
+
+    @Test
+    public void getMatches_buyerNotInList_empty() {
+        assertTrue(matchSets.getMatches(TypicalBuyers.AMY).isEmpty());
+        assertEquals(0, matchSets.getMatchCount(TypicalBuyers.AMY).get());
+    }
+
+    @Test
+    public void sellerChanges_updateMatchCountOfAffectedBuyers() {
+        ReadOnlyIntegerProperty carlMatchCount = matchSets.getMatchCount(TypicalBuyers.CARL);
+
+        sellerAddressBook.removeSeller(TypicalSellers.ALICE);
+        assertEquals(3, carlMatchCount.get());
+
+        Seller movedFiona = new SellerBuilder(TypicalSellers.FIONA).withProperty(new PropertyToSell(
+                new House(HouseType.BUNGALOW, new Location("clementi")), new PriceRange(0, 20),
+                new Address("address"))).build();
+        sellerAddressBook.setSeller(TypicalSellers.FIONA, movedFiona);
+        assertEquals(2, carlMatchCount.get());
+        assertEquals(Set.of(movedFiona), Set.copyOf(matchSets.getMatches(TypicalBuyers.ALICE)));
+        assertEquals(1, matchSets.getMatchCount(TypicalBuyers.ALICE).get());
+    }
+
+    @Test
+    public void buyerChanges_matchesFollowEditedBuyer() {
+        Buyer editedCarl = new BuyerBuilder(TypicalBuyers.CARL).withProperty(new PropertyToBuy(
+                new House(HouseType.BUNGALOW, new Location("bishan")), new PriceRange(30, 40))).build();
+        buyerAddressBook.setBuyer(TypicalBuyers.CARL, editedCarl);
+
+        assertTrue(matchSets.getMatches(TypicalBuyers.CARL).isEmpty());
+        assertEquals(Set.of(TypicalSellers.DANIEL), Set.copyOf(matchSets.getMatches(editedCarl)));
+
+        sellerAddressBook.removeSeller(TypicalSellers.DANIEL);
+        assertEquals(0, matchSets.getMatchCount(editedCarl).get());
+    }
+
+    @Test
+    public void randomChanges_sameMatchesAsPredicate() {
+        Random random = new Random(11);
+        buyerAddressBook.setBuyers(new ArrayList<>());
+        sellerAddressBook.setSellers(new ArrayList<>());
+        for (int i = 0; i < 300; i++) {
+            List<Seller> sellers = sellerAddressBook.getSellerList();
+            List<Buyer> buyers = buyerAddressBook.getBuyerList();
+            switch (random.nextInt(5)) {
+            case 0:
+                sellerAddressBook.addSeller(randomSeller(random, i));
+                break;
+            case 1:
+                buyerAddressBook.addBuyer(randomBuyer(random, i));
+                break;
+            case 2:
+                if (!sellers.isEmpty()) {
+                    Seller target = sellers.get(random.nextInt(sellers.size()));
+                    sellerAddressBook.setSeller(target, new SellerBuilder(target).withProperty(new PropertyToSell(
+                            randomHouse(random), randomPriceRange(random), new Address("address"))).build());
+                }
+                break;
+            case 3:
+                if (!buyers.isEmpty()) {
+                    Buyer target = buyers.get(random.nextInt(buyers.size()));
+                    buyerAddressBook.setBuyer(target, new BuyerBuilder(target).withProperty(new PropertyToBuy(
+                            randomHouse(random), randomPriceRange(random))).build());
+                }
+                break;
+            default:
+                if (!sellers.isEmpty()) {
+                    sellerAddressBook.removeSeller(sellers.get(random.nextInt(sellers.size())));
+                }
+                break;
+            }
+        }
+
+        for (Buyer buyer : buyerAddressBook.getBuyerList()) {
+            AllFieldsMatchBuyerPredicate predicate = new AllFieldsMatchBuyerPredicate(buyer);
+            List<Seller> expected = new ArrayList<>();
+            sellerAddressBook.getSellerList().stream().filter(predicate).forEach(expected::add);
+            assertEquals(Set.copyOf(expected), Set.copyOf(matchSets.getMatches(buyer)));
+            assertEquals(expected.size(), matchSets.getMatchCount(buyer).get());
+        }
+    }
+
+    private static Buyer randomBuyer(Random random, int id) {
+        return new BuyerBuilder().withName("Buyer " + id).withPhone(String.format("9%07d", id))
+                .withProperty(new PropertyToBuy(randomHouse(random), randomPriceRange(random))).build();
+    }
+
+    private static Seller randomSeller(Random random, int id) {
+        return new SellerBuilder().withName("Seller " + id).withPhone(String.format("8%07d", id))
+                .withProperty(new PropertyToSell(randomHouse(random), randomPriceRange(random), new Address("address")))
+                .build();
+    }
+
+    private static House randomHouse(Random random) {
+        return new House(HOUSE_TYPES[random.nextInt(HOUSE_TYPES.length)],
+                new Location(LOCATIONS[random.nextInt(LOCATIONS.length)]));
+    }
+
+    private static PriceRange randomPriceRange(Random random) {
+        int lower = random.nextInt(100);
+        return new PriceRange(lower, lower + random.nextInt(30));
+    }
+}
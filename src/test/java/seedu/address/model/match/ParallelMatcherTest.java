@@ -0,0 +1,50 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMatcherTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void filter_invalidThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            ParallelMatcher.filter(List.of(1), number -> true, 0, pool));
+    }
+
+    @Test
+    public void filter_belowThreshold_sameAsSerial() {
+        List<Integer> numbers = List.of(5, 2, 8, 3, 6);
+
+        assertEquals(List.of(2, 8, 6), ParallelMatcher.filter(numbers, number -> number % 2 == 0, 10, pool));
+    }
+
+    @Test
+    public void filter_aboveThreshold_sameResultAndOrderAsSerial() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            numbers.add((i * 7919) % 50000);
+        }
+        Predicate<Integer> predicate = number -> number % 3 == 0 || number % 11 == 0;
+
+        List<Integer> expected = ParallelMatcher.filter(numbers, predicate, Integer.MAX_VALUE, pool);
+
+        assertEquals(expected, ParallelMatcher.filter(numbers, predicate, 1, pool));
+        assertEquals(expected, ParallelMatcher.filter(new LinkedHashSet<>(numbers), predicate, 1, pool));
+    }
+}
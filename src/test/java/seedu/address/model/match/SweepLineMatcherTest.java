@@ -0,0 +1,117 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.House;
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NullPropertyToBuy;
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.property.PropertyToBuy;
+import seedu.address.model.property.PropertyToSell;
+import seedu.address.model.seller.AllFieldsMatchBuyerPredicate;
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.BuyerBuilder;
+import seedu.address.testutil.SellerBuilder;
+import seedu.address.testutil.TypicalBuyers;
+import seedu.address.testutil.TypicalSellers;
+
+public class SweepLineMatcherTest {
+
+    private static final HouseType[] HOUSE_TYPES = {HouseType.UNSPECIFIED, HouseType.BUNGALOW, HouseType.HDB_FLAT};
+    private static final String[] LOCATIONS = {"bishan", "clementi", "kranji"};
+
+    @Test
+    public void match_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SweepLineMatcher.match(null, new ArrayList<>()));
+        assertThrows(NullPointerException.class, () -> SweepLineMatcher.match(new ArrayList<>(), null));
+    }
+
+    @Test
+    public void match_typicalClients_findsSameMatchesAsMatchCommand() {
+        MatchPairList matches = SweepLineMatcher.match(TypicalBuyers.getTypicalBuyers(),
+            TypicalSellers.getTypicalSellers());
+
+        assertEquals(4, matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            assertEquals(TypicalBuyers.CARL, matches.getBuyer(i));
+        }
+        assertEquals(List.of(TypicalSellers.ALICE, TypicalSellers.BENSON, TypicalSellers.FIONA,
+            TypicalSellers.GEORGE), List.of(matches.getSeller(0), matches.getSeller(1), matches.getSeller(2),
+            matches.getSeller(3)));
+    }
+
+    @Test
+    public void match_clientsWithoutProperty_neverMatched() {
+        Buyer buyer = new BuyerBuilder().withProperty(NullPropertyToBuy.getNullPropertyToBuy()).build();
+        Seller seller = new SellerBuilder().withProperty(NullPropertyToSell.getNullPropertyToSell()).build();
+
+        assertTrue(SweepLineMatcher.match(List.of(buyer), List.of(seller)).isEmpty());
+    }
+
+    @Test
+    public void match_randomClients_sameMatchesAndOrderAsPredicate() {
+        Random random = new Random(7);
+        List<Buyer> buyers = new ArrayList<>();
+        List<Seller> sellers = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            buyers.add(new BuyerBuilder().withName("Buyer " + i).withProperty(new PropertyToBuy(
+                randomHouse(random), randomPriceRange(random))).build());
+            sellers.add(new SellerBuilder().withName("Seller " + i).withProperty(new PropertyToSell(
+                randomHouse(random), randomPriceRange(random), new Address("address"))).build());
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (Buyer buyer : buyers) {
+            AllFieldsMatchBuyerPredicate predicate = new AllFieldsMatchBuyerPredicate(buyer);
+            for (Seller seller : sellers) {
+                if (predicate.test(seller)) {
+                    expected.add(buyer.getName() + " - " + seller.getName());
+                }
+            }
+        }
+
+        MatchPairList matches = SweepLineMatcher.match(buyers, sellers);
+        List<String> actual = new ArrayList<>();
+        for (int i = 0; i < matches.size(); i++) {
+            actual.add(matches.getBuyer(i).getName() + " - " + matches.getSeller(i).getName());
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void writeTo_matches_writesOneLinePerMatch() throws IOException {
+        Buyer buyer = new BuyerBuilder().withName("Anna").withPhone("911").withProperty(new PropertyToBuy(
+            new House(HouseType.HDB_FLAT, new Location("bishan")), new PriceRange(10, 20))).build();
+        Seller seller = new SellerBuilder().withName("Bob").withPhone("922").withProperty(new PropertyToSell(
+            new House(HouseType.HDB_FLAT, new Location("bishan")), new PriceRange(20, 30), new Address("a"))).build();
+
+        StringWriter writer = new StringWriter();
+        SweepLineMatcher.match(List.of(buyer), List.of(seller)).writeTo(writer);
+
+        assertEquals("buyer,buyer phone,seller,seller phone\nAnna,911,Bob,922\n", writer.toString());
+    }
+
+    private static House randomHouse(Random random) {
+        return new House(HOUSE_TYPES[random.nextInt(HOUSE_TYPES.length)],
+            new Location(LOCATIONS[random.nextInt(LOCATIONS.length)]));
+    }
+
+    private static PriceRange randomPriceRange(Random random) {
+        int lower = random.nextInt(100);
+        return new PriceRange(lower, lower + random.nextInt(30));
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.match.TopKMatcher.ScoredMatch;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.House;
+import seedu.address.model.property.HouseType;
+import seedu.address.model.property.Location;
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.property.PriceRange;
+import seedu.address.model.property.PropertyToBuy;
+import seedu.address.model.property.PropertyToSell;
+import seedu.address.model.seller.AllFieldsMatchBuyerPredicate;
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.BuyerBuilder;
+import seedu.address.testutil.SellerBuilder;
+
+public class TopKMatcherTest {
+
+    private static final HouseType[] HOUSE_TYPES = {HouseType.UNSPECIFIED, HouseType.BUNGALOW, HouseType.HDB_FLAT};
+    private static final String[] LOCATIONS = {"bishan", "clementi", "kranji"};
+
+    private final Buyer buyer = new BuyerBuilder().withProperty(new PropertyToBuy(
+            new House(HouseType.HDB_FLAT, new Location("bishan")), new PriceRange(10, 19))).build();
+
+    @Test
+    public void getTopMatches_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> TopKMatcher.getTopMatches(null, List.of(), 1));
+        assertThrows(NullPointerException.class, () -> TopKMatcher.getTopMatches(buyer, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> TopKMatcher.getTopMatches(buyer, List.of(), 0));
+    }
+
+    @Test
+    public void score_eachField_addsItsWeight() {
+        assertEquals(2 + 1 + 1.0, TopKMatcher.score(buyer, seller("A", HouseType.HDB_FLAT, "bishan", 0, 30)));
+        assertEquals(2 + 1 + 0.5, TopKMatcher.score(buyer, seller("B", HouseType.HDB_FLAT, "bishan", 15, 30)));
+        assertEquals(2 + 0.3, TopKMatcher.score(buyer, seller("C", HouseType.BUNGALOW, "bishan", 17, 30)));
+        assertEquals(1 + 0.0, TopKMatcher.score(buyer, seller("D", HouseType.HDB_FLAT, "kranji", 20, 30)));
+
+        Buyer anyTypeBuyer = new BuyerBuilder().withProperty(new PropertyToBuy(
+                new House(HouseType.UNSPECIFIED, new Location("bishan")), new PriceRange(10, 19))).build();
+        assertEquals(2 + 0.5 + 1.0,
+                TopKMatcher.score(anyTypeBuyer, seller("E", HouseType.BUNGALOW, "bishan", 0, 30)));
+    }
+
+    @Test
+    public void getTopMatches_fewerCandidatesThanK_returnsAllBestFirst() {
+        Seller partial = seller("Partial", HouseType.BUNGALOW, "bishan", 10, 19);
+        Seller full = seller("Full", HouseType.HDB_FLAT, "bishan", 19, 40);
+        Seller noProperty = new SellerBuilder().withName("None")
+                .withProperty(NullPropertyToSell.getNullPropertyToSell()).build();
+
+        List<Seller> ranked = TopKMatcher.getTopMatches(buyer, List.of(partial, noProperty, full), 5).stream()
+                .map(ScoredMatch::getSeller).collect(Collectors.toList());
+        assertEquals(List.of(full, partial), ranked);
+    }
+
+    @Test
+    public void getTopMatches_randomSellers_sameAsSortingEveryone() {
+        Random random = new Random(5);
+        List<Seller> sellers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int lower = random.nextInt(100);
+            sellers.add(seller("Seller " + i, HOUSE_TYPES[random.nextInt(HOUSE_TYPES.length)],
+                    LOCATIONS[random.nextInt(LOCATIONS.length)], lower, lower + random.nextInt(30)));
+        }
+
+        List<Seller> expected = sellers.stream()
+                .sorted(Comparator.comparingDouble((Seller seller) -> TopKMatcher.score(buyer, seller)).reversed()
+                        .thenComparing(seller -> seller.getName().fullName))
+                .limit(10)
+                .collect(Collectors.toList());
+        List<ScoredMatch> actual = TopKMatcher.getTopMatches(buyer, sellers, 10);
+
+        assertEquals(expected, actual.stream().map(ScoredMatch::getSeller).collect(Collectors.toList()));
+        AllFieldsMatchBuyerPredicate predicate = new AllFieldsMatchBuyerPredicate(buyer);
+        long fullMatches = sellers.stream().filter(predicate).count();
+        for (int i = 0; i < Math.min(fullMatches, actual.size()); i++) {
+            assertTrue(predicate.test(actual.get(i).getSeller()));
+        }
+    }
+
+    @Test
+    public void getTopMatchesAmong_candidatesPassedOneByOne_sameAsFromList() {
+        Seller partial = seller("Partial", HouseType.BUNGALOW, "bishan", 10, 19);
+        Seller full = seller("Full", HouseType.HDB_FLAT, "bishan", 19, 40);
+        Seller other = seller("Other", HouseType.BUNGALOW, "jurong", 0, 100);
+        List<Seller> candidates = List.of(partial, full, other);
+
+        List<ScoredMatch> expected = TopKMatcher.getTopMatches(buyer, candidates, 2);
+        List<ScoredMatch> actual = TopKMatcher.getTopMatchesAmong(buyer, candidates::forEach, 2);
+        assertEquals(expected.stream().map(ScoredMatch::getSeller).collect(Collectors.toList()),
+                actual.stream().map(ScoredMatch::getSeller).collect(Collectors.toList()));
+    }
+
+    private static Seller seller(String name, HouseType houseType, String location, int lower, int upper) {
+        return new SellerBuilder().withName(name).withProperty(new PropertyToSell(
+                new House(houseType, new Location(location)), new PriceRange(lower, upper),
+                new Address("address"))).build();
+    }
+}
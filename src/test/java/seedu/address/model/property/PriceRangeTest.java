@@ -104,6 +104,10 @@ class PriceRangeTest {
 
         assertTrue(PriceRange.canMatchPrice(pr5, pr6));
         assertTrue(PriceRange.canMatchPrice(pr6, pr5));
+
+        // ranges sharing only an endpoint overlap
+        assertTrue(PriceRange.canMatchPrice(pr1, new PriceRange(100, 120)));
+        assertTrue(PriceRange.canMatchPrice(new PriceRange(100, 120), pr1));
     }
 
     @Test
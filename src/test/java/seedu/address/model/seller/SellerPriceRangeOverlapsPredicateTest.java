@@ -0,0 +1,58 @@
+package seedu.address.model.seller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.NullPropertyToSell;
+import seedu.address.model.property.PriceRange;
+import seedu.address.testutil.PropertyToSellBuilder;
+import seedu.address.testutil.SellerBuilder;
+
+public class SellerPriceRangeOverlapsPredicateTest {
+
+    private final Seller sellerWithProperty = new SellerBuilder().withName("With Property")
+            .withProperty(new PropertyToSellBuilder().withPriceRange(new PriceRange(50, 80)).build()).build();
+    private final Seller sellerWithoutProperty = new SellerBuilder().withName("Without Property")
+            .withProperty(NullPropertyToSell.getNullPropertyToSell()).build();
+
+    @Test
+    public void equals() {
+        SellerPriceRangeOverlapsPredicate firstPredicate =
+                new SellerPriceRangeOverlapsPredicate(new PriceRange(0, 100));
+        SellerPriceRangeOverlapsPredicate secondPredicate =
+                new SellerPriceRangeOverlapsPredicate(new PriceRange(0, 50));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new SellerPriceRangeOverlapsPredicate(new PriceRange(0, 100))));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_sellerWithoutProperty_returnsFalse() {
+        SellerPriceRangeOverlapsPredicate predicate = new SellerPriceRangeOverlapsPredicate(new PriceRange(0, 100));
+
+        assertTrue(predicate.test(sellerWithProperty));
+        assertFalse(predicate.test(sellerWithoutProperty));
+    }
+
+    @Test
+    public void getCandidates_sellerWithoutProperty_notReturned() {
+        UniqueSellerList sellers = new UniqueSellerList();
+        sellers.add(sellerWithProperty);
+        sellers.add(sellerWithoutProperty);
+        SellerPriceRangeOverlapsPredicate predicate = new SellerPriceRangeOverlapsPredicate(new PriceRange(0, 100));
+
+        assertEquals(Set.of(sellerWithProperty), predicate.getCandidates(sellers.getIndexes()));
+
+        sellers.setSeller(sellerWithProperty, new SellerBuilder(sellerWithProperty)
+                .withProperty(NullPropertyToSell.getNullPropertyToSell()).build());
+        assertTrue(predicate.getCandidates(sellers.getIndexes()).isEmpty());
+    }
+}
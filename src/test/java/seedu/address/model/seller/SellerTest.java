@@ -12,6 +12,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalSellers.ALICE;
 import static seedu.address.testutil.TypicalSellers.BOB;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.property.Address;
@@ -30,6 +32,18 @@ public class SellerTest {
         assertThrows(UnsupportedOperationException.class, () -> seller.getTags().remove(0));
     }
 
+    @Test
+    public void searchKeys_lowerCasedOnConstruction() {
+        Seller seller = new SellerBuilder().withName("Alice PAULINE").withTags("Friends", "OWES").withProperty(
+                new PropertyToSell(new House(HouseType.HDB_FLAT, new Location("Kent Ridge")),
+                        new PriceRange("100000,200000"), new Address("Serangoon Avenue 3 Block 201"))).build();
+
+        assertEquals("alice pauline", seller.getNameKey());
+        assertEquals(Set.of("friends", "owes"), Set.copyOf(seller.getTagKeys()));
+        assertEquals("kent ridge", seller.getLocationKey());
+        assertEquals("hdb", seller.getHouseTypeKey());
+    }
+
     @Test
     public void isSameSeller() {
         // same object -> returns true
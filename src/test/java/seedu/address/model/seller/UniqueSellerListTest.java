@@ -0,0 +1,84 @@
+package seedu.address.model.seller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.SellerCommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSellers.ALICE;
+import static seedu.address.testutil.TypicalSellers.BENSON;
+import static seedu.address.testutil.TypicalSellers.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.exceptions.ClientNotFoundException;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.testutil.SellerBuilder;
+
+public class UniqueSellerListTest {
+
+    private final UniqueSellerList uniqueSellerList = new UniqueSellerList();
+
+    @Test
+    public void contains_sellerWithSameNameInList_returnsTrue() {
+        uniqueSellerList.add(ALICE);
+        Seller editedAlice = new SellerBuilder(ALICE).withPhone("99999999").withTags(VALID_TAG_HUSBAND).build();
+        assertTrue(uniqueSellerList.contains(editedAlice));
+    }
+
+    @Test
+    public void add_sellerWithSameName_throwsDuplicateClientException() {
+        uniqueSellerList.add(ALICE);
+        Seller sameName = new SellerBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        assertThrows(DuplicateClientException.class, () -> uniqueSellerList.add(sameName));
+    }
+
+    @Test
+    public void setSeller_editedSellerHasDifferentName_updatesNameIndex() {
+        uniqueSellerList.add(ALICE);
+        uniqueSellerList.setSeller(ALICE, BENSON);
+
+        assertFalse(uniqueSellerList.contains(ALICE));
+        assertTrue(uniqueSellerList.contains(BENSON));
+
+        // the old name is free again, and the new one is taken
+        uniqueSellerList.add(ALICE);
+        assertThrows(DuplicateClientException.class, () -> uniqueSellerList.add(BENSON));
+    }
+
+    @Test
+    public void setSeller_editedSellerHasNameOfAnotherSeller_throwsDuplicateClientException() {
+        uniqueSellerList.add(ALICE);
+        uniqueSellerList.add(BENSON);
+        assertThrows(DuplicateClientException.class, () -> uniqueSellerList.setSeller(ALICE, BENSON));
+    }
+
+    @Test
+    public void remove_equalSeller_removesStoredSeller() {
+        uniqueSellerList.add(ALICE);
+        uniqueSellerList.add(BENSON);
+
+        uniqueSellerList.remove(new SellerBuilder(ALICE).build());
+
+        assertFalse(uniqueSellerList.contains(ALICE));
+        UniqueSellerList expectedUniqueSellerList = new UniqueSellerList();
+        expectedUniqueSellerList.add(BENSON);
+        assertEquals(expectedUniqueSellerList, uniqueSellerList);
+    }
+
+    @Test
+    public void remove_sellerWithSameNameButNotEqual_throwsClientNotFoundException() {
+        uniqueSellerList.add(ALICE);
+        Seller sameName = new SellerBuilder(ALICE).withPhone("99999999").build();
+        assertThrows(ClientNotFoundException.class, () -> uniqueSellerList.remove(sameName));
+    }
+
+    @Test
+    public void setSellers_listWithDuplicateNames_throwsDuplicateClientException() {
+        List<Seller> listWithDuplicateClients = Arrays.asList(ALICE, CARL, ALICE);
+        assertThrows(DuplicateClientException.class, () -> uniqueSellerList.setSellers(listWithDuplicateClients));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ClientListSpliceTest {
+
+    private static final List<String> BEFORE = Arrays.asList("a", "b", "c", "d");
+
+    @Test
+    public void between_sameClients_returnsEmpty() {
+        assertFalse(ClientListSplice.between(BEFORE, new ArrayList<>(BEFORE)).isPresent());
+    }
+
+    @Test
+    public void between_singleEdit_onlyHoldsEditedClient() {
+        List<String> after = Arrays.asList("a", "b", "C", "d");
+        ClientListSplice<String> splice = ClientListSplice.between(BEFORE, after).get();
+
+        assertEquals(2, splice.getFrom());
+        assertEquals(1, splice.getRemovedCount());
+        assertEquals(Collections.singletonList("C"), splice.getAdded());
+    }
+
+    @Test
+    public void between_addAndDelete_appliesToGiveAfter() throws Exception {
+        assertSpliceGives(BEFORE, Arrays.asList("a", "b", "c", "d", "e"));
+        assertSpliceGives(BEFORE, Arrays.asList("a", "c", "d"));
+        assertSpliceGives(BEFORE, Collections.emptyList());
+        assertSpliceGives(Collections.emptyList(), BEFORE);
+        assertSpliceGives(Arrays.asList("a", "a"), Arrays.asList("a"));
+    }
+
+    @Test
+    public void applyTo_outOfRange_throwsIllegalValueException() {
+        ClientListSplice<String> splice = new ClientListSplice<>(3, 2, Collections.emptyList());
+        assertThrows(IllegalValueException.class, ClientListSplice.MESSAGE_OUT_OF_RANGE, () ->
+                splice.applyTo(new ArrayList<>(BEFORE)));
+    }
+
+    private void assertSpliceGives(List<String> before, List<String> after) throws Exception {
+        List<String> clients = new ArrayList<>(before);
+        ClientListSplice.between(before, after).get().applyTo(clients);
+        assertEquals(after, clients);
+    }
+}
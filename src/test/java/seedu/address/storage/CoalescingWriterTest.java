@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class CoalescingWriterTest {
+
+    private static final Path FIRST_FILE = Paths.get("first.json");
+    private static final Path SECOND_FILE = Paths.get("second.json");
+
+    /**
+     * Holds the tasks given to the writer until the test runs them.
+     */
+    private final Deque<Runnable> tasks = new ArrayDeque<>();
+    private final CoalescingWriter writer = new CoalescingWriter(tasks::add);
+    private final List<String> written = new ArrayList<>();
+    private final Map<String, Integer> attempts = new HashMap<>();
+
+    @Test
+    public void submit_severalWritesBeforeDrain_writesNewestOfEachFile() throws Exception {
+        writer.submit(FIRST_FILE, () -> written.add("first v1"));
+        writer.submit(SECOND_FILE, () -> written.add("second v1"));
+        writer.submit(FIRST_FILE, () -> written.add("first v2"));
+        writer.submit(FIRST_FILE, () -> written.add("first v3"));
+
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(Arrays.asList("second v1", "first v3"), written);
+    }
+
+    @Test
+    public void submit_duringWrite_writesNewerSnapshotInSameDrain() throws Exception {
+        writer.submit(FIRST_FILE, () -> {
+            written.add("first v1");
+            writer.submit(FIRST_FILE, () -> written.add("first v2"));
+        });
+
+        tasks.poll().run();
+        assertEquals(Arrays.asList("first v1", "first v2"), written);
+        assertEquals(0, tasks.size());
+    }
+
+    @Test
+    public void flush_failedWrite_triesWriteAgainUntilItSucceeds() throws Exception {
+        CoalescingWriter directWriter = new CoalescingWriter(Runnable::run);
+        directWriter.submit(FIRST_FILE, () -> failFirstTimes(2, "first"));
+
+        assertThrows(IOException.class, "disk full", directWriter::flush);
+        assertEquals(Arrays.asList(), written);
+        directWriter.flush();
+        assertEquals(Arrays.asList("first"), written);
+        directWriter.flush();
+        assertEquals(Arrays.asList("first"), written);
+    }
+
+    @Test
+    public void submit_afterFailedWrite_queuesWriteAndTriesFailedWriteAgain() throws Exception {
+        CoalescingWriter directWriter = new CoalescingWriter(Runnable::run);
+        directWriter.submit(FIRST_FILE, () -> failFirstTimes(1, "first"));
+
+        assertThrows(IOException.class, "disk full", () ->
+                directWriter.submit(SECOND_FILE, () -> written.add("second")));
+        assertEquals(Arrays.asList("first", "second"), written);
+        directWriter.flush();
+    }
+
+    @Test
+    public void submit_afterFailedWriteToSameFile_replacesFailedWrite() throws Exception {
+        CoalescingWriter directWriter = new CoalescingWriter(Runnable::run);
+        directWriter.submit(FIRST_FILE, () -> {
+            throw new IOException("disk full");
+        });
+
+        // the newer write replaces the failed one, so its failure no longer matters
+        directWriter.submit(FIRST_FILE, () -> written.add("first v2"));
+        directWriter.flush();
+        assertEquals(Arrays.asList("first v2"), written);
+    }
+
+    @Test
+    public void flush_failedWriteThenOtherFileSubmitted_writesBothFiles() throws Exception {
+        writer.submit(FIRST_FILE, () -> failFirstTimes(1, "first"));
+        tasks.poll().run();
+
+        // the failure is reported once the other file's write is queued
+        assertThrows(IOException.class, "disk full", () -> writer.submit(SECOND_FILE, () -> written.add("second")));
+        assertEquals(1, tasks.size());
+
+        // the failed write is tried again alongside it, so the exit flush finds nothing left to write
+        tasks.poll().run();
+        assertEquals(Arrays.asList("first", "second"), written);
+        writer.flush();
+    }
+
+    @Test
+    public void flush_writeKeepsFailing_reportsFailureEveryTime() throws Exception {
+        CoalescingWriter directWriter = new CoalescingWriter(Runnable::run);
+        directWriter.submit(FIRST_FILE, () -> {
+            throw new IOException("disk full");
+        });
+
+        assertThrows(IOException.class, "disk full", directWriter::flush);
+        assertThrows(IOException.class, "disk full", directWriter::flush);
+    }
+
+    @Test
+    public void flush_onBackgroundThread_waitsForPendingWrites() throws Exception {
+        CoalescingWriter backgroundWriter = new CoalescingWriter();
+        List<String> slowWrites = new ArrayList<>();
+        backgroundWriter.submit(FIRST_FILE, () -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            synchronized (slowWrites) {
+                slowWrites.add("first");
+            }
+        });
+
+        backgroundWriter.flush();
+        synchronized (slowWrites) {
+            assertEquals(Arrays.asList("first"), slowWrites);
+        }
+    }
+
+    /**
+     * Fails the first {@code failures} times it is called for {@code name}, then records {@code name} as written.
+     */
+    private void failFirstTimes(int failures, String name) throws IOException {
+        attempts.merge(name, 1, Integer::sum);
+        if (attempts.get(name) <= failures) {
+            throw new IOException("disk full");
+        }
+        written.add(name);
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSellers.ALICE;
+import static seedu.address.testutil.TypicalSellers.HOON;
+import static seedu.address.testutil.TypicalSellers.IDA;
+import static seedu.address.testutil.TypicalSellers.getTypicalSellerAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Durability;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.SellerAddressBook;
+import seedu.address.testutil.SellerBuilder;
+
+public class JournaledSellerAddressBookStorageTest {
+
+    private static final long LARGE_THRESHOLD = 1024 * 1024;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_afterFirstSave_appendsChangesWithoutRewritingSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("sellers.json");
+        Path journalPath = ClientJournal.journalPathOf(filePath);
+        JournaledSellerAddressBookStorage storage = createStorage(filePath, LARGE_THRESHOLD);
+        SellerAddressBook original = getTypicalSellerAddressBook();
+
+        storage.saveSellerAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // add, edit and delete are appended to the journal only
+        original.addSeller(HOON);
+        storage.saveSellerAddressBook(original);
+        original.setSeller(ALICE, new SellerBuilder(ALICE).withPhone("99999999").build());
+        storage.saveSellerAddressBook(original);
+        original.removeSeller(HOON);
+        storage.saveSellerAddressBook(original);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+
+        // saving an unchanged address book appends nothing
+        storage.saveSellerAddressBook(original);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void save_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("sellers.json");
+        Path journalPath = ClientJournal.journalPathOf(filePath);
+        JournaledSellerAddressBookStorage storage = createStorage(filePath, 1);
+        SellerAddressBook original = getTypicalSellerAddressBook();
+
+        storage.saveSellerAddressBook(original);
+        original.addSeller(HOON);
+        storage.saveSellerAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        original.addSeller(IDA);
+        storage.saveSellerAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void save_zeroThreshold_alwaysWritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("sellers.json");
+        JournaledSellerAddressBookStorage storage = createStorage(filePath, 0);
+        SellerAddressBook original = getTypicalSellerAddressBook();
+
+        storage.saveSellerAddressBook(original);
+        original.addSeller(HOON);
+        storage.saveSellerAddressBook(original);
+
+        assertFalse(Files.exists(ClientJournal.journalPathOf(filePath)));
+        assertEquals(original, new SellerAddressBook(new JsonSellerAddressBookStorage(filePath)
+                .readSellerAddressBook().get()));
+    }
+
+    @Test
+    public void save_appendFailedAndNoFurtherChange_writesSnapshotOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("sellers.json");
+        Path journalPath = ClientJournal.journalPathOf(filePath);
+        StorageManager storageManager = new StorageManager(new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                createStorage(filePath, LARGE_THRESHOLD), new JsonBuyerAddressBookStorage(testFolder.resolve("buyers")),
+                new CoalescingWriter(Runnable::run));
+        SellerAddressBook original = getTypicalSellerAddressBook();
+        storageManager.saveSellerAddressBook(original);
+
+        // the journal cannot be appended to while a directory is in its place
+        Files.createDirectory(journalPath);
+        original.addSeller(HOON);
+        storageManager.saveSellerAddressBook(original);
+        assertEquals(getTypicalSellerAddressBook(), new SellerAddressBook(new JsonSellerAddressBookStorage(filePath)
+                .readSellerAddressBook().get()));
+
+        // the exit flush tries the save again, which writes a full snapshot in place of the journal
+        storageManager.flush();
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void read_journalLeftByInterruptedCompaction_skipsFoldedRecords() throws Exception {
+        Path filePath = testFolder.resolve("sellers.json");
+        Path journalPath = ClientJournal.journalPathOf(filePath);
+        Path leftoverPath = testFolder.resolve("leftover.journal");
+        JournaledSellerAddressBookStorage storage = createStorage(filePath, 1);
+        SellerAddressBook original = getTypicalSellerAddressBook();
+
+        storage.saveSellerAddressBook(original);
+        original.addSeller(HOON);
+        storage.saveSellerAddressBook(original);
+        Files.copy(journalPath, leftoverPath);
+
+        // the compaction writes the snapshot, but the journal it folded in is not deleted
+        original.addSeller(IDA);
+        storage.saveSellerAddressBook(original);
+        Files.copy(leftoverPath, journalPath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_ignoresRecordAndCompactsOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("sellers.json");
+        Path journalPath = ClientJournal.journalPathOf(filePath);
+        JournaledSellerAddressBookStorage storage = createStorage(filePath, LARGE_THRESHOLD);
+        SellerAddressBook original = getTypicalSellerAddressBook();
+
+        storage.saveSellerAddressBook(original);
+        original.addSeller(HOON);
+        storage.saveSellerAddressBook(original);
+        Files.write(journalPath, "{\"sequence\":2,\"from\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledSellerAddressBookStorage restarted = createStorage(filePath, LARGE_THRESHOLD);
+        SellerAddressBook read = new SellerAddressBook(restarted.readSellerAddressBook().get());
+        assertEquals(original, read);
+
+        read.addSeller(IDA);
+        restarted.saveSellerAddressBook(read);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(read, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void read_unreadableJournal_copiesFilesAsideAndThrows() throws Exception {
+        Path filePath = testFolder.resolve("sellers.json");
+        Path journalPath = ClientJournal.journalPathOf(filePath);
+        JournaledSellerAddressBookStorage storage = createStorage(filePath, LARGE_THRESHOLD);
+        SellerAddressBook original = getTypicalSellerAddressBook();
+
+        storage.saveSellerAddressBook(original);
+        original.addSeller(HOON);
+        storage.saveSellerAddressBook(original);
+        Files.write(journalPath, "not a record\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        assertThrows(DataConversionException.class, () -> createStorage(filePath, LARGE_THRESHOLD)
+                .readSellerAddressBook());
+        String suffix = JournaledSellerAddressBookStorage.UNREADABLE_FILE_SUFFIX;
+        assertArrayEquals(Files.readAllBytes(filePath),
+                Files.readAllBytes(testFolder.resolve("sellers.json" + suffix)));
+        assertArrayEquals(journal, Files.readAllBytes(testFolder.resolve("sellers.json.journal" + suffix)));
+    }
+
+    private JournaledSellerAddressBookStorage createStorage(Path filePath, long compactionThreshold) {
+        return new JournaledSellerAddressBookStorage(filePath, compactionThreshold, Durability.SYNCED);
+    }
+
+    private SellerAddressBook readWithNewStorage(Path filePath) throws Exception {
+        return new SellerAddressBook(createStorage(filePath, LARGE_THRESHOLD)
+                .readSellerAddressBook().get());
+    }
+}
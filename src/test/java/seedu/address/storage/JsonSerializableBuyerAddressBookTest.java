@@ -29,7 +29,8 @@ public class JsonSerializableBuyerAddressBookTest {
     public void toModelType_duplicateBuyers_throwsIllegalValueException() throws Exception {
         JsonSerializableBuyerAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_BUYER_FILE,
                 JsonSerializableBuyerAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableBuyerAddressBook.MESSAGE_DUPLICATE_BUYER,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableBuyerAddressBook.MESSAGE_DUPLICATE_BUYER, "Chua"),
                 dataFromFile::toModelType);
     }
 
@@ -41,7 +41,8 @@ public class JsonSerializableSellerAddressBookTest {
     public void toModelType_duplicateBuyers_throwsIllegalValueException() throws Exception {
         JsonSerializableSellerAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_SELLER_FILE,
                 JsonSerializableSellerAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableSellerAddressBook.MESSAGE_DUPLICATE_SELLER,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableSellerAddressBook.MESSAGE_DUPLICATE_SELLER, "Chua"),
                 dataFromFile::toModelType);
     }
 
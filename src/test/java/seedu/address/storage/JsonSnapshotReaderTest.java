@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.seller.Seller;
+import seedu.address.testutil.TypicalSellers;
+
+public class JsonSnapshotReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "JsonSerializableSellerAddressBookTest");
+    private static final Path TYPICAL_SELLER_FILE = TEST_DATA_FOLDER.resolve("typicalSellerAddressBook.json");
+    private static final Path INVALID_SELLER_FILE = TEST_DATA_FOLDER.resolve("invalidSellerAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalSellersFile_readsSellersInOrder() throws Exception {
+        JsonSnapshotReader<Seller> snapshot = JsonSellerAddressBookStorage.readSnapshot(TYPICAL_SELLER_FILE).get();
+        assertEquals(TypicalSellers.getTypicalSellers(), snapshot.getClients());
+        assertEquals(0, snapshot.getJournalSequence());
+    }
+
+    @Test
+    public void read_missingFile_returnsEmpty() throws Exception {
+        Optional<JsonSnapshotReader<Seller>> snapshot = JsonSellerAddressBookStorage.readSnapshot(
+                testFolder.resolve("missing.json"));
+        assertFalse(snapshot.isPresent());
+    }
+
+    @Test
+    public void read_invalidSeller_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonSellerAddressBookStorage.readSnapshot(INVALID_SELLER_FILE));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsDataConversionException() throws Exception {
+        Path file = testFolder.resolve("notObject.json");
+        Files.write(file, "[1, 2, 3]".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> JsonSellerAddressBookStorage.readSnapshot(file));
+
+        Files.write(file, "{ \"sellers\" : [ ".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> JsonSellerAddressBookStorage.readSnapshot(file));
+    }
+
+    @Test
+    public void read_fileWrittenWithJournalSequence_skipsUnknownFieldsAndReadsSequence() throws Exception {
+        Path file = testFolder.resolve("sellers.json");
+        JsonUtil.saveJsonFile(new JsonSerializableSellerAddressBook(TypicalSellers.getTypicalSellerAddressBook(), 7),
+                file);
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Files.write(file, content.replaceFirst("\\{", "{ \"extra\" : { \"nested\" : [ 1, { } ] },")
+                .getBytes(StandardCharsets.UTF_8));
+
+        JsonSnapshotReader<Seller> snapshot = JsonSellerAddressBookStorage.readSnapshot(file).get();
+        assertEquals(TypicalSellers.getTypicalSellers(), snapshot.getClients());
+        assertEquals(7, snapshot.getJournalSequence());
+    }
+}